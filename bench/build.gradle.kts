@@ -0,0 +1,27 @@
+plugins {
+    id("org.openjfx.javafxplugin")
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(project(":ui"))
+    implementation(project(":server"))
+}
+
+javafx {
+    version = "25"
+    modules("javafx.controls")
+}
+
+// Benchmarks live in src/jmh/java. Run with ./gradlew :bench:jmh, optionally -Pjmh.includes=<regex>.
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    if (project.hasProperty("jmh.includes")) {
+        includes.add(project.property("jmh.includes").toString())
+    }
+    // Board benchmarks start the FX toolkit, which needs a display, same as the UI tests
+    jvmArgsAppend.add("-Dprism.order=sw")
+}
@@ -0,0 +1,100 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Destroyer;
+import casey.lcbdev.model.ships.Ship;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Costs of the player board, node tree ({@link Board}) against single canvas ({@link CanvasBoard}):
+ * a full layout pass, one placement ghost update, and redrawing one changed cell.
+ * Starts the FX toolkit, so a display is required.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"10", "50", "100"})
+    int boardSize;
+
+    @Param({"nodes", "canvas"})
+    String renderer;
+
+    private BoardView<Ship> board;
+    private Runnable layout;
+    private ShipPlacementHandler placement;
+    private int hover;
+
+    static final class LayoutBoard extends Board<Ship> {
+        LayoutBoard(int size) {
+            super(size, size, (x, y) -> new ShipCell(x, y));
+        }
+
+        void layoutNow() {
+            layoutChildren();
+        }
+    }
+
+    // Backed by a CellGrid, as GameScreen builds large boards
+    static final class LayoutCanvasBoard extends CanvasBoard<Ship> {
+        LayoutCanvasBoard(int size) {
+            super(CellGrid.ofShips(size, size));
+        }
+
+        void layoutNow() {
+            // Force a full repaint, as a resize would
+            resize(getWidth() + 1, getHeight());
+            layoutChildren();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException alreadyStarted) {
+            // Toolkit is shared between trials in the same fork
+        }
+        if (renderer.equals("canvas")) {
+            LayoutCanvasBoard b = new LayoutCanvasBoard(boardSize);
+            layout = b::layoutNow;
+            board = b;
+        } else {
+            LayoutBoard b = new LayoutBoard(boardSize);
+            layout = b::layoutNow;
+            board = b;
+        }
+        board.asRegion().resize(800, 800);
+        layout.run();
+        placement = new ShipPlacementHandler(board, () -> new Destroyer(null), 3, ship -> {});
+        board.setHandler(placement);
+        hover = 0;
+    }
+
+    @Benchmark
+    public void layoutChildren() {
+        layout.run();
+    }
+
+    @Benchmark
+    public void placementGhost() {
+        int total = boardSize * boardSize;
+        hover = hover + 1 == total ? 0 : hover + 1;
+        placement.onHoverEnter(board.getCell(hover % boardSize, hover / boardSize));
+    }
+
+    @Benchmark
+    public void refreshOneCell() {
+        int total = boardSize * boardSize;
+        hover = hover + 1 == total ? 0 : hover + 1;
+        ShipCell cell = (ShipCell) board.getCell(hover % boardSize, hover / boardSize);
+        cell.setIncomingShot(cell.getIncomingShot() == ShotState.MISS ? ShotState.UNKNOWN : ShotState.MISS);
+        board.refreshDirtyCells();
+    }
+}
@@ -0,0 +1,39 @@
+package casey.lcbdev.model.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of creating an AI opponent and placing its fleet, which the simulator pays once per game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIPlayerBenchmark {
+    @Param({"10", "100", "1000"})
+    int boardSize;
+
+    private SplittableRandom rnd;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rnd = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public AIPlayer construct() {
+        return new AIPlayer(boardSize, boardSize, rnd.split());
+    }
+
+    @Benchmark
+    public AIPlayer placeAllShipsRandomly() {
+        AIPlayer ai = new AIPlayer(boardSize, boardSize, rnd.split());
+        ai.placeAllShipsRandomly();
+        return ai;
+    }
+}
@@ -0,0 +1,104 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.ShipRegistry;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-shot cost of the match engine across board and fleet sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchControllerBenchmark {
+    private static final int SALVO_SHOTS = 5;
+
+    @Param({"10", "100", "1000"})
+    int boardSize;
+
+    @Param({"1", "5"})
+    int fleetSize;
+
+    private Player attacker;
+    private Player defender;
+    private MatchController match;
+    private int[] order;
+    private int cursor;
+    private final int[] salvo = new int[2 * SALVO_SHOTS];
+    private final AttackResult[] salvoResults = new AttackResult[SALVO_SHOTS];
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        attacker = new Player(boardSize, boardSize);
+        defender = new Player(boardSize, boardSize);
+
+        // Stack the first fleetSize registry ships down the left edge, one per row
+        for (int id = 0; id < fleetSize; id++) {
+            String key = ShipRegistry.keyFor(id);
+            int len = ShipRegistry.lengthFor(key);
+            ShipCell[] cells = new ShipCell[len];
+            for (int i = 0; i < len; i++) cells[i] = new ShipCell(i, id * 2);
+            defender.addShip(key, new Ship(key, len, cells));
+        }
+
+        match = new MatchController(attacker, defender, attacker, boardSize, boardSize);
+
+        // Fire at a shuffled sample of cells, capped so large boards stay cheap to set up
+        int cells = Math.min(boardSize * boardSize, 1 << 20);
+        order = new int[cells];
+        SplittableRandom rnd = new SplittableRandom(42);
+        for (int i = 0; i < cells; i++) order[i] = i;
+        for (int i = cells - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = order[i]; order[i] = order[j]; order[j] = t;
+        }
+        cursor = 0;
+    }
+
+    private int nextIndex() {
+        if (cursor == order.length) {
+            // Repairs the fleet too, so every pass sees the same mix of hits and misses
+            match.reset(attacker);
+            cursor = 0;
+        }
+        return order[cursor++];
+    }
+
+    @Benchmark
+    public AttackResult attack() {
+        int idx = nextIndex();
+        return match.attack(attacker, defender, idx % boardSize, idx / boardSize);
+    }
+
+    /**
+     * Five shots in one call; compare against five times {@link #attack()}.
+     */
+    @Benchmark
+    public int attackSalvo() {
+        for (int i = 0; i < SALVO_SHOTS; i++) {
+            int idx = nextIndex();
+            salvo[2 * i] = idx % boardSize;
+            salvo[2 * i + 1] = idx / boardSize;
+        }
+        return match.attackSalvo(attacker, defender, salvo, salvoResults);
+    }
+
+    @Benchmark
+    public AttackResult resolveAttack() {
+        int idx = nextIndex();
+        return match.resolveAttack(defender, idx % boardSize, idx / boardSize);
+    }
+
+    @Benchmark
+    public boolean isAllSunk() {
+        return match.isAllSunk(defender);
+    }
+}
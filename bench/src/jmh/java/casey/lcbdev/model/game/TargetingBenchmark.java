@@ -0,0 +1,52 @@
+package casey.lcbdev.model.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-move decision cost of the AI targeting strategies against a real fleet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingBenchmark {
+    @Param({"10", "100"})
+    int boardSize;
+
+    @Param({"random", "density"})
+    String strategy;
+
+    private SplittableRandom rnd;
+    private AIPlayer attacker;
+    private AIPlayer defender;
+    private MatchController match;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        rnd = new SplittableRandom(42);
+        newGame();
+    }
+
+    private void newGame() {
+        attacker = new AIPlayer(boardSize, boardSize, rnd.split());
+        attacker.setTargeting("density".equals(strategy) ? DensityTargeting::new : RandomTargeting::new);
+        defender = new AIPlayer(boardSize, boardSize, rnd.split());
+        defender.placeAllShipsRandomly();
+        match = new MatchController(attacker.getPlayerModel(), defender.getPlayerModel(),
+            attacker.getPlayerModel(), boardSize, boardSize);
+    }
+
+    @Benchmark
+    public AttackResult move() {
+        if (match.isAllSunk(defender.getPlayerModel())) newGame();
+        AIPlayer.Coord c = attacker.pickNextAttack();
+        AttackResult r = match.attack(attacker.getPlayerModel(), defender.getPlayerModel(), c.x, c.y);
+        attacker.recordResult(c.x, c.y, r);
+        return r;
+    }
+}
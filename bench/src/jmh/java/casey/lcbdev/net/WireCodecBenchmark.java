@@ -0,0 +1,86 @@
+package casey.lcbdev.net;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.ShotBoard;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Codec throughput: per-shot attack and result frames, and whole-board shot snapshots.
+ * Run with -prof gc to confirm the per-shot paths don't allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireCodecBenchmark {
+    @Param({"10", "100", "1000"})
+    int boardSize;
+
+    // Percentage of cells shot in the snapshot
+    @Param({"1", "50"})
+    int fillPercent;
+
+    private final BufferPool pool = new BufferPool(Protocol.MAX_FRAME, 4);
+    private final AttackResult sunk = AttackResult.sunk("destroyer");
+    private ShotBoard shots;
+    private ByteBuffer snapshot;
+    private int x;
+    private int y;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        shots = new ShotBoard(boardSize, boardSize);
+        SplittableRandom rnd = new SplittableRandom(42);
+        long target = (long) boardSize * boardSize * fillPercent / 100;
+        while (shots.getShotCount() < target) {
+            shots.mark(rnd.nextInt(boardSize), rnd.nextInt(boardSize));
+        }
+        snapshot = ByteBuffer.allocateDirect(WireCodec.shotsSize(shots));
+    }
+
+    @Benchmark
+    public void attackAndResultFrames(Blackhole bh) throws ProtocolException {
+        x = (x + 7) % boardSize;
+        y = (y + 3) % boardSize;
+
+        ByteBuffer out = pool.acquire();
+        Protocol.writeAttack(out, x, y);
+        Protocol.writeResult(out, x, y, sunk);
+        out.flip();
+
+        out.position(Protocol.LENGTH_BYTES + 1);
+        bh.consume(WireCodec.getVarint(out));
+        bh.consume(WireCodec.getVarint(out));
+        out.position(out.position() + Protocol.LENGTH_BYTES + 1);
+        bh.consume(WireCodec.getVarint(out));
+        bh.consume(WireCodec.getVarint(out));
+        bh.consume(WireCodec.getResult(out));
+        pool.release(out);
+    }
+
+    @Benchmark
+    public int encodeSnapshot() {
+        snapshot.clear();
+        WireCodec.putShots(snapshot, shots);
+        return snapshot.position();
+    }
+
+    @Benchmark
+    public ShotBoard decodeSnapshot() throws ProtocolException {
+        snapshot.clear();
+        WireCodec.putShots(snapshot, shots);
+        snapshot.flip();
+        ShotBoard copy = new ShotBoard(boardSize, boardSize);
+        WireCodec.getShots(snapshot, copy);
+        return copy;
+    }
+}
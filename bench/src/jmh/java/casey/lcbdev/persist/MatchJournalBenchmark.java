@@ -0,0 +1,52 @@
+package casey.lcbdev.persist;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost the journal adds to every attack. The background sync runs throughout, as in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchJournalBenchmark {
+    private Path dir;
+    private MatchJournal journal;
+    private Player attacker;
+    private final AttackResult hit = AttackResult.hit("destroyer");
+    private int x;
+    private int y;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("journal-bench");
+        MatchController match = new MatchController(new Player(100, 100), new Player(100, 100), null, 100, 100);
+        attacker = match.getPlayerA();
+        journal = MatchJournal.create(dir.resolve("bench" + MatchJournal.SUFFIX), match);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(journal.getFile());
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void appendAttack() {
+        x = (x + 7) % 100;
+        y = (y + 3) % 100;
+        journal.onAttack(attacker, x, y, hit);
+    }
+}
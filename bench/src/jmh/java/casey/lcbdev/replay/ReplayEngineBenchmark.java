@@ -0,0 +1,71 @@
+package casey.lcbdev.replay;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.ships.ShipRegistry;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Random seeks through long matches, with default keyframes against replaying from move 0.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayEngineBenchmark {
+    @Param({"100", "1000"})
+    int boardSize;
+
+    @Param({"true", "false"})
+    boolean keyframes;
+
+    private ReplayEngine engine;
+    private final SplittableRandom rnd = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MoveLog log = new MoveLog(fleet(), fleet(), false, boardSize, boardSize);
+
+        // Each side fires at a shuffled sample of cells, two shots per turn
+        int shots = Math.min(boardSize * boardSize, 1 << 19);
+        int[] order = new int[boardSize * boardSize];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        for (int i = 0; i + 1 < shots; i += 2) {
+            for (int side : new int[] { MoveLog.SIDE_A, MoveLog.SIDE_B }) {
+                log.addAttack(side, order[i] % boardSize, order[i] / boardSize);
+                log.addAttack(side, order[i + 1] % boardSize, order[i + 1] / boardSize);
+                log.addTurnEnd();
+            }
+        }
+        engine = keyframes ? new ReplayEngine(log) : new ReplayEngine(log, Integer.MAX_VALUE);
+    }
+
+    private Player fleet() {
+        Player p = new Player(boardSize, boardSize);
+        for (int id = 0; id < ShipRegistry.count(); id++) {
+            String key = ShipRegistry.keyFor(id);
+            ShipCell[] cells = new ShipCell[ShipRegistry.lengthFor(key)];
+            for (int i = 0; i < cells.length; i++) cells[i] = new ShipCell(i, id * 2);
+            p.addShip(key, ShipRegistry.create(key, cells));
+        }
+        return p;
+    }
+
+    @Benchmark
+    public int seekRandom() {
+        engine.seek(rnd.nextInt(engine.getMoveCount() + 1));
+        return engine.getPosition();
+    }
+}
@@ -0,0 +1,61 @@
+package casey.lcbdev.server;
+
+import casey.lcbdev.model.game.Player;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Pairing latency with a growing crowd already parked in the lobby under other queue keys.
+ * Time per op should stay flat as waiters grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LobbyBenchmark {
+    @Param({"0", "1000", "10000"})
+    int waiters;
+
+    private Lobby lobby;
+    private QueueKey key;
+    private Player a;
+    private Player b;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        lobby = new Lobby();
+        // Each idle waiter sits alone under its own fleet config, so it never gets paired
+        for (int i = 1; i <= waiters; i++) {
+            lobby.join(new QueueKey(10, 10, i), new Player(), (match, self) -> {});
+        }
+        while (lobby.waitingCount() < waiters) Thread.sleep(10);
+
+        key = QueueKey.standard();
+        a = new Player();
+        b = new Player();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lobby.close();
+    }
+
+    @Benchmark
+    public LobbyMatch pairTwoPlayers() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(2);
+        LobbyMatch[] out = new LobbyMatch[1];
+        Lobby.SessionHandler handler = (match, self) -> {
+            out[0] = match;
+            done.countDown();
+        };
+        lobby.join(key, a, handler);
+        lobby.join(key, b, handler);
+        done.await();
+        return out[0];
+    }
+}
@@ -1,64 +1,38 @@
 plugins {
-    id("java")
-    id("org.openjfx.javafxplugin") version "0.1.0"
-    application
+    id("org.openjfx.javafxplugin") version "0.1.0" apply false
+    id("me.champeau.jmh") version "0.7.3" apply false
 }
 
-group = "casey.lcbdev"
-version = "1.0-SNAPSHOT"
+subprojects {
+    apply(plugin = "java")
 
-repositories {
-    mavenCentral()
-}
-
-dependencies {
-    testImplementation(platform("org.junit:junit-bom:5.10.0"))
-    testImplementation("org.junit.jupiter:junit-jupiter")
-    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
-
-    // TestFX core and JUnit5 support
-    testImplementation("org.testfx:testfx-core:4.0.18")
-    testImplementation("org.testfx:testfx-junit5:4.0.18")
-}
+    group = "casey.lcbdev"
+    version = "1.0-SNAPSHOT"
 
-javafx {
-    version = "25"
-    modules("javafx.controls", "javafx.fxml")
-}
-
-java {
-    toolchain {
-        languageVersion.set(JavaLanguageVersion.of(25))
+    repositories {
+        mavenCentral()
     }
-}
 
-tasks.test {
-    useJUnitPlatform()
+    extensions.configure<JavaPluginExtension> {
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(25))
+        }
+    }
 
-    jvmArgs = listOf(
-        "--module-path", classpath.asPath,
-        "--add-modules", "javafx.controls,javafx.fxml",
-        "--add-opens=javafx.controls/javafx.scene=ALL-UNNAMED",
-        "--add-opens=javafx.graphics/javafx.scene=ALL-UNNAMED",
-        "--add-opens=javafx.base/javafx.beans=ALL-UNNAMED"
-    )
+    dependencies {
+        "testImplementation"(platform("org.junit:junit-bom:5.10.0"))
+        "testImplementation"("org.junit.jupiter:junit-jupiter")
+        "testRuntimeOnly"("org.junit.platform:junit-platform-launcher")
+    }
 
-    systemProperty("testfx.robot", "glass")
-    systemProperty("testfx.headless", "true")
-    systemProperty("prism.order", "sw")
-    systemProperty("prism.text", "t2k")
+    tasks.withType<Test>().configureEach {
+        useJUnitPlatform()
 
-    testLogging {
-        events("passed", "skipped", "failed")
-        showStandardStreams = true
-        exceptionFormat = org.gradle.api.tasks.testing.logging.TestExceptionFormat.FULL
-        displayGranularity = 2
+        testLogging {
+            events("passed", "skipped", "failed")
+            showStandardStreams = true
+            exceptionFormat = org.gradle.api.tasks.testing.logging.TestExceptionFormat.FULL
+            displayGranularity = 2
+        }
     }
 }
-
-
-
-
-application {
-    mainClass.set("casey.lcbdev.NetShips")
-}
\ No newline at end of file
@@ -0,0 +1,12 @@
+plugins {
+    `java-library`
+}
+
+// Headless engine: game model, AI and simulation. Must not depend on JavaFX.
+
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs headless AI-vs-AI matches. Arguments: --args=\"games threads seed rows cols strategyA strategyB\""
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("casey.lcbdev.sim.MatchSimulator")
+}
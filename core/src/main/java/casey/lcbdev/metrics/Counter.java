@@ -0,0 +1,80 @@
+package casey.lcbdev.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event count. Increments go to a striped {@link LongAdder}, so concurrent writers
+ * never contend on one cache line.
+ * <p>
+ * Rates are worked out by readers, never by writers, from the count at most once a second: the
+ * rate over the last interval, and a one-minute exponentially weighted moving average of it.
+ */
+public final class Counter implements CounterMBean {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    private static final long SAMPLE_NANOS = 1_000_000_000L;
+    private static final double EWMA_WINDOW_NANOS = 60e9;
+
+    // Rate bookkeeping, touched by readers only
+    private long lastCount;
+    private long lastNanos = System.nanoTime();
+    private double lastRate;
+    private double averageRate;
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        if (Metrics.isEnabled()) count.increment();
+    }
+
+    public void add(long n) {
+        if (Metrics.isEnabled()) count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Events per second since the previous sample, or the last rate if that was under a second ago.
+     */
+    @Override
+    public synchronized double getRatePerSecond() {
+        sample();
+        return lastRate;
+    }
+
+    /**
+     * Smoothed over about a minute, so a burst or a lull shows up gradually. Between reads the
+     * events are taken as evenly spread, so a rarely read counter reports the average since its last read.
+     * @return Events per second, as a one-minute exponentially weighted moving average.
+     */
+    @Override
+    public synchronized double getOneMinuteRate() {
+        sample();
+        return averageRate;
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        long elapsed = now - lastNanos;
+        if (elapsed < SAMPLE_NANOS) return;
+        long c = count.sum();
+        lastRate = (c - lastCount) * 1e9 / elapsed;
+        // Weight by the time covered, since samples are as irregular as the reads
+        averageRate += (1 - Math.exp(-elapsed / EWMA_WINDOW_NANOS)) * (lastRate - averageRate);
+        lastCount = c;
+        lastNanos = now;
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public String toString() {
+        return name + " count=" + getCount() + " rate1m=" + String.format("%.2f", getOneMinuteRate()) + "/s";
+    }
+}
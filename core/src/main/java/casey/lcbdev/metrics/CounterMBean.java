@@ -0,0 +1,12 @@
+package casey.lcbdev.metrics;
+
+/**
+ * JMX view of a {@link Counter}.
+ */
+public interface CounterMBean {
+    long getCount();
+
+    double getRatePerSecond();
+
+    double getOneMinuteRate();
+}
@@ -0,0 +1,135 @@
+package casey.lcbdev.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non-negative values, usually latencies in nanoseconds.
+ * <p>
+ * Buckets are log-linear: each power of two is split into 16, so a reported percentile is within
+ * about 6% of the true value. Every bucket is a {@link LongAdder}, so recording is a few
+ * arithmetic ops and an uncontended add, with no locks. Reads sum the buckets and may miss
+ * values recorded while they run.
+ */
+public final class Histogram implements HistogramMBean {
+    private static final int SUB_BITS = 4;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB;
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    static int bucketFor(long value) {
+        if (value < SUB) return (int) value;
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        return (msb - SUB_BITS + 1) * SUB + (int) ((value >>> (msb - SUB_BITS)) & (SUB - 1));
+    }
+
+    // Smallest value that falls in a bucket
+    static long lowerBound(int bucket) {
+        int group = bucket >>> SUB_BITS;
+        long sub = bucket & (SUB - 1);
+        if (group == 0) return sub;
+        return (SUB + sub) << (group - 1);
+    }
+
+    /**
+     * @param value Negative values count as zero
+     */
+    public void record(long value) {
+        if (!Metrics.isEnabled()) return;
+        if (value < 0) value = 0;
+        buckets[bucketFor(value)].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Record the nanoseconds elapsed since {@link Metrics#startTimer()}.
+     * @param start Value from startTimer; 0 (metrics were off) records nothing
+     */
+    public void recordSince(long start) {
+        if (start != 0) record(System.nanoTime() - start);
+    }
+
+    @Override
+    public long getCount() {
+        long n = 0;
+        for (LongAdder b : buckets) n += b.sum();
+        return n;
+    }
+
+    @Override
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param quantile From 0 to 1, e.g. 0.99
+     * @return Approximate value at the quantile: the middle of its bucket, capped at the max. 0 if empty.
+     */
+    public long getPercentile(double quantile) {
+        if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("Quantile must be within 0 and 1");
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long lo = lowerBound(i);
+                long hi = i + 1 < BUCKETS ? lowerBound(i + 1) : Long.MAX_VALUE;
+                return Math.min(lo + (hi - lo) / 2, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public long getP50() { return getPercentile(0.5); }
+
+    @Override
+    public long getP90() { return getPercentile(0.9); }
+
+    @Override
+    public long getP99() { return getPercentile(0.99); }
+
+    @Override
+    public long getP999() { return getPercentile(0.999); }
+
+    /**
+     * Clear all values. Records made concurrently may survive or be lost.
+     */
+    @Override
+    public void reset() {
+        for (LongAdder b : buckets) b.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    public String getName() { return name; }
+
+    @Override
+    public String toString() {
+        return name + " count=" + getCount() + " mean=" + Math.round(getMean()) + " p50=" + getP50()
+            + " p99=" + getP99() + " max=" + getMax();
+    }
+}
@@ -0,0 +1,22 @@
+package casey.lcbdev.metrics;
+
+/**
+ * JMX view of a {@link Histogram}. Values are in the unit the histogram records, nanoseconds for timers.
+ */
+public interface HistogramMBean {
+    long getCount();
+
+    double getMean();
+
+    long getMax();
+
+    long getP50();
+
+    long getP90();
+
+    long getP99();
+
+    long getP999();
+
+    void reset();
+}
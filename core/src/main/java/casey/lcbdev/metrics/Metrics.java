@@ -0,0 +1,114 @@
+package casey.lcbdev.metrics;
+
+import casey.lcbdev.util.Logging;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of counters and histograms.
+ * <p>
+ * Hot paths look a metric up once into a static field and record into it. Every metric is also
+ * registered as an MBean named {@code casey.lcbdev:type=Counter|Histogram,name=<name>} for JConsole
+ * and other JMX clients; {@link #counters()}, {@link #histograms()} and {@link #report()} are
+ * the pull API for everything else.
+ * <p>
+ * Recording is on by default and can be switched off with {@code -Dnetships.metrics=false} or
+ * {@link #setEnabled(boolean)}, after which recording is a single volatile read.
+ */
+public final class Metrics {
+    private static final Logger logger = Logging.getLogger(Metrics.class);
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    // Engine metrics shared across modules
+    public static final String ATTACK_NANOS = "match.attack.nanos";
+    public static final String SALVO_NANOS = "match.salvo.nanos";
+    public static final String MATCHES_STARTED = "match.started";
+    public static final String AI_DECISION_NANOS = "ai.decision.nanos";
+    public static final String UI_QUEUE_DELAY_NANOS = "ui.update.delay.nanos";
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty("netships.metrics"));
+
+    private Metrics() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * @return The counter with this name, created and registered on first use.
+     * @throws IllegalArgumentException If the name has characters other than letters, digits, '.', '_' or '-'.
+     */
+    public static Counter counter(String name) {
+        return lookup(COUNTERS, name, Counter::new, "Counter");
+    }
+
+    /**
+     * @return The histogram with this name, created and registered on first use.
+     * @throws IllegalArgumentException If the name has characters other than letters, digits, '.', '_' or '-'.
+     */
+    public static Histogram histogram(String name) {
+        return lookup(HISTOGRAMS, name, Histogram::new, "Histogram");
+    }
+
+    private static <T> T lookup(Map<String, T> metrics, String name, Function<String, T> factory, String type) {
+        T metric = metrics.get(name);
+        if (metric != null) return metric;
+        if (name == null || !NAME.matcher(name).matches()) throw new IllegalArgumentException("Bad metric name: " + name);
+        return metrics.computeIfAbsent(name, n -> {
+            T created = factory.apply(n);
+            register(created, type, n);
+            return created;
+        });
+    }
+
+    private static void register(Object metric, String type, String name) {
+        try {
+            ObjectName id = new ObjectName("casey.lcbdev:type=" + type + ",name=" + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metric, id);
+        } catch (JMException | SecurityException e) {
+            // Still usable through the pull API
+            logger.warning("Could not register MBean for " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return Start time for {@link Histogram#recordSince(long)}, or 0 when recording is off, so a
+     *         disabled timer doesn't even read the clock.
+     */
+    public static long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static Map<String, Counter> counters() {
+        return Collections.unmodifiableMap(COUNTERS);
+    }
+
+    public static Map<String, Histogram> histograms() {
+        return Collections.unmodifiableMap(HISTOGRAMS);
+    }
+
+    /**
+     * @return One line per metric, sorted by name.
+     */
+    public static String report() {
+        Map<String, Object> sorted = new TreeMap<>(COUNTERS);
+        sorted.putAll(HISTOGRAMS);
+        StringBuilder sb = new StringBuilder();
+        for (Object metric : sorted.values()) sb.append(metric).append('\n');
+        return sb.toString();
+    }
+}
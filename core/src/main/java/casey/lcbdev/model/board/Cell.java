@@ -0,0 +1,116 @@
+package casey.lcbdev.model.board;
+
+import java.util.function.Consumer;
+
+/**
+ * Model class to represent a cell on a Board.
+ * <p>
+ * A cell either holds its own state or is a view onto a {@link CellGrid}, which keeps the state of
+ * a whole board in arrays. Standalone cells report changes to their own change listener, so
+ * views can redraw just the cells that changed; grid views report through the grid.
+ * 
+ * @param <T> occupant type
+*/
+public class Cell<T> {
+    private final int posX;
+    private final int posY;
+    // Non-null for a grid view, which keeps none of the state below
+    final CellGrid<T> grid;
+    boolean occupied = false;
+    boolean occupiable = true;
+    private T occupant = null;
+    private Consumer<? super Cell<T>> changeListener;
+
+    public Cell(int x, int y) {
+        this(null, x, y);
+    }
+
+    Cell(CellGrid<T> grid, int x, int y) {
+        this.grid = grid;
+        this.posX = x;
+        this.posY = y;
+    }
+
+    public int getX() { return this.posX; }
+    public int getY() { return this.posY; }
+
+    final int index() { return posY * grid.getCols() + posX; }
+
+    public boolean isOccupied() {
+        return grid != null ? grid.isOccupied(index()) : occupied;
+    }
+    
+    public boolean isOccupiable() {
+        return grid != null ? grid.isOccupiable(index()) : occupiable;
+    }
+
+    public void setOccupiable(boolean occupiable) {
+        if (grid != null) {
+            grid.setOccupiable(index(), occupiable);
+            return;
+        }
+        this.occupiable = occupiable;
+        changed();
+    }
+
+    public T getOccupant() {
+        return grid != null ? grid.getOccupant(index()) : occupant;
+    }
+
+    public boolean setOccupant(T occupant) {
+        if (grid != null) return grid.setOccupant(index(), occupant, -1);
+        if (!occupiable) return false;
+        this.occupant = occupant;
+        this.occupied = occupant != null;
+        changed();
+        return true;
+    }
+
+    public void clearOccupant() {
+        if (grid != null) {
+            grid.clearOccupant(index());
+            return;
+        }
+        this.occupant = null;
+        this.occupied = false;
+        changed();
+    }
+
+    /**
+     * @param listener Called with this cell after every state change, or null to clear.
+     * @throws IllegalStateException For a grid view; listen on the grid instead.
+     */
+    public void setChangeListener(Consumer<? super Cell<T>> listener) {
+        if (grid != null) throw new IllegalStateException("Grid cells report changes through CellGrid");
+        this.changeListener = listener;
+    }
+
+    /**
+     * Tell the listener of a standalone cell that its state changed.
+     */
+    protected void changed() {
+        Consumer<? super Cell<T>> l = changeListener;
+        if (l != null) l.accept(this);
+    }
+
+    /**
+     * Grid views are equal when they show the same cell of the same grid. Standalone cells are
+     * only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (grid == null || !(o instanceof Cell<?> other)) return false;
+        return grid == other.grid && posX == other.posX && posY == other.posY;
+    }
+
+    @Override
+    public int hashCode() {
+        return grid == null ? super.hashCode() : 31 * posY + posX;
+    }
+
+    @Override
+    public String toString() {
+        return "Cell(" + posX + "," + posY + ")[occ=" + isOccupied() + ", occuable=" + isOccupiable() + "]";
+    }
+}
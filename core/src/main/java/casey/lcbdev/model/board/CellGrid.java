@@ -0,0 +1,167 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Struct-of-arrays store for the state of every cell on a board: a flag byte, incoming shot and
+ * ship segment per cell, plus an int id per cell into a small table of distinct occupants.
+ * About 7 bytes a cell, against several objects a cell for standalone {@link Cell}s.
+ * <p>
+ * {@link #cell(int, int)} hands out lightweight {@link Cell} views that read and write these
+ * arrays; views of the same cell are {@code equals} but not necessarily the same object. Changes
+ * made through any view are reported to the grid's change listener by cell index
+ * ({@code y * cols + x}).
+ *
+ * @param <T> occupant type
+ */
+public final class CellGrid<T> {
+    private static final byte OCCUPIED = 1;
+    private static final byte BLOCKED = 2;
+    private static final byte HIT = 4;
+    private static final byte NO_SEGMENT = -1;
+    private static final ShotState[] SHOT_STATES = ShotState.values();
+
+    @FunctionalInterface
+    private interface ViewFactory<T> {
+        Cell<T> view(CellGrid<T> grid, int x, int y);
+    }
+
+    private final int rows;
+    private final int cols;
+    private final ViewFactory<T> views;
+    private final byte[] flags;
+    private final byte[] incoming;
+    private final byte[] segments;
+    // 0 for no occupant, else 1 + index into occupants
+    private final int[] occupantIds;
+    private final List<T> occupants = new ArrayList<>();
+    private final Map<T, Integer> idsByOccupant = new IdentityHashMap<>();
+    private volatile IntConsumer changeListener;
+
+    private CellGrid(int rows, int cols, ViewFactory<T> views) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        this.views = views;
+        int total = Math.multiplyExact(rows, cols);
+        this.flags = new byte[total];
+        this.incoming = new byte[total];
+        this.segments = new byte[total];
+        this.occupantIds = new int[total];
+        Arrays.fill(segments, NO_SEGMENT);
+    }
+
+    /**
+     * @return A grid whose cells are plain {@link Cell}s.
+     */
+    public static <T> CellGrid<T> of(int rows, int cols) {
+        return new CellGrid<>(rows, cols, Cell::new);
+    }
+
+    /**
+     * @return A grid whose cells are {@link ShipCell}s.
+     */
+    public static CellGrid<Ship> ofShips(int rows, int cols) {
+        return new CellGrid<>(rows, cols, ShipCell::new);
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * @return A view of the cell at (x, y), or null if off the board.
+     */
+    public Cell<T> cell(int x, int y) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return null;
+        return views.view(this, x, y);
+    }
+
+    /**
+     * @param listener Called with the index of every cell whose state changes, or null to clear.
+     */
+    public void setChangeListener(IntConsumer listener) {
+        this.changeListener = listener;
+    }
+
+    private void changed(int index) {
+        IntConsumer l = changeListener;
+        if (l != null) l.accept(index);
+    }
+
+    private boolean flag(int index, byte bit) {
+        return (flags[index] & bit) != 0;
+    }
+
+    private boolean setFlag(int index, byte bit, boolean on) {
+        byte old = flags[index];
+        byte now = (byte) (on ? old | bit : old & ~bit);
+        flags[index] = now;
+        return now != old;
+    }
+
+    // Accessors for the cell views, by index
+
+    boolean isOccupied(int index) { return flag(index, OCCUPIED); }
+
+    boolean isOccupiable(int index) { return !flag(index, BLOCKED); }
+
+    void setOccupiable(int index, boolean occupiable) {
+        if (setFlag(index, BLOCKED, !occupiable)) changed(index);
+    }
+
+    T getOccupant(int index) {
+        int id = occupantIds[index];
+        return id == 0 ? null : occupants.get(id - 1);
+    }
+
+    boolean setOccupant(int index, T occupant, int segment) {
+        if (!isOccupiable(index)) return false;
+        if (segment < NO_SEGMENT || segment > Byte.MAX_VALUE) throw new IllegalArgumentException("Segment out of range: " + segment);
+        occupantIds[index] = occupant == null ? 0 : idFor(occupant);
+        segments[index] = occupant == null ? NO_SEGMENT : (byte) segment;
+        setFlag(index, OCCUPIED, occupant != null);
+        changed(index);
+        return true;
+    }
+
+    private int idFor(T occupant) {
+        Integer id = idsByOccupant.get(occupant);
+        if (id == null) {
+            occupants.add(occupant);
+            id = occupants.size();
+            idsByOccupant.put(occupant, id);
+        }
+        return id;
+    }
+
+    void clearOccupant(int index) {
+        occupantIds[index] = 0;
+        segments[index] = NO_SEGMENT;
+        setFlag(index, OCCUPIED, false);
+        changed(index);
+    }
+
+    int getSegment(int index) { return segments[index]; }
+
+    boolean isHit(int index) { return flag(index, HIT); }
+
+    void setHit(int index, boolean hit) {
+        if (setFlag(index, HIT, hit)) changed(index);
+    }
+
+    ShotState getIncomingShot(int index) { return SHOT_STATES[incoming[index]]; }
+
+    void setIncomingShot(int index, ShotState s) {
+        byte ordinal = (byte) s.ordinal();
+        if (incoming[index] == ordinal) return;
+        incoming[index] = ordinal;
+        changed(index);
+    }
+}
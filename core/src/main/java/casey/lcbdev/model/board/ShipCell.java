@@ -0,0 +1,79 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+
+/**
+ * ShipCell extends the generic Cell<Ship> with Battleship-specific state.
+ */
+public class ShipCell extends Cell<Ship> {
+    private boolean hit = false;
+    private ShotState incomingShot = ShotState.UNKNOWN;
+    private int segment = -1;
+
+    public ShipCell(int x, int y) { super(x, y); }
+
+    ShipCell(CellGrid<Ship> grid, int x, int y) { super(grid, x, y); }
+
+    public boolean isHit() {
+        return grid != null ? grid.isHit(index()) : hit;
+    }
+
+    public void setHit(boolean hit) {
+        if (grid != null) {
+            grid.setHit(index(), hit);
+            return;
+        }
+        if (this.hit == hit) return;
+        this.hit = hit;
+        changed();
+    }
+
+    public ShotState getIncomingShot() {
+        return grid != null ? grid.getIncomingShot(index()) : incomingShot;
+    }
+
+    public void setIncomingShot(ShotState s) {
+        if (grid != null) {
+            grid.setIncomingShot(index(), s);
+            return;
+        }
+        if (incomingShot == s) return;
+        this.incomingShot = s;
+        changed();
+    }
+
+    /**
+     * @return This cell's offset along the ship on it, or -1 if there is none.
+     */
+    public int getSegment() {
+        return grid != null ? grid.getSegment(index()) : segment;
+    }
+
+    /**
+     * Place a ship segment on this cell.
+     * @return false if the cell is not occupiable.
+     */
+    public boolean setOccupant(Ship ship, int segment) {
+        if (grid != null) return grid.setOccupant(index(), ship, segment);
+        if (!isOccupiable()) return false;
+        this.segment = ship == null ? -1 : segment;
+        return super.setOccupant(ship);
+    }
+
+    @Override
+    public boolean setOccupant(Ship ship) {
+        return setOccupant(ship, -1);
+    }
+
+    @Override
+    public void clearOccupant() {
+        segment = -1;
+        super.clearOccupant();
+    }
+
+    @Override
+    public String toString() {
+        return "ShipCell(" + getX() + "," + getY() + ")[occ=" + isOccupied() +
+               ", hit=" + isHit() + ", incoming=" + getIncomingShot() + "]";
+    }
+}
@@ -0,0 +1,60 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.metrics.Histogram;
+import casey.lcbdev.metrics.Metrics;
+import casey.lcbdev.util.Logging;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * OpponentHandler implementation for local AI opponents.
+ * Encapsulates AI behavior and keeps it separate from game flow logic.
+ */
+public class AIOpponentHandler implements GameManager.OpponentHandler {
+    private static final Logger logger = Logging.getLogger(AIOpponentHandler.class);
+    private static final Histogram DECISION_NANOS = Metrics.histogram(Metrics.AI_DECISION_NANOS);
+    private final AIPlayer aiPlayer;
+
+    public AIOpponentHandler(AIPlayer aiPlayer) {
+        this.aiPlayer = aiPlayer;
+    }
+
+    @Override
+    public void executeOpponentTurn(GameManager.OpponentMoveCallback callback) {
+        int shots = callback.shotsPerTurn();
+        if (shots > 1) {
+            int[] coords = new int[2 * shots];
+            long start = Metrics.startTimer();
+            int picked = aiPlayer.pickSalvo(coords, shots);
+            DECISION_NANOS.recordSince(start);
+            if (picked == 0) {
+                logger.warning("AI has no moves left");
+                return;
+            }
+            callback.reportSalvo(picked == shots ? coords : Arrays.copyOf(coords, 2 * picked));
+            return;
+        }
+
+        long start = Metrics.startTimer();
+        AIPlayer.Coord coord = aiPlayer.pickNextAttack();
+        DECISION_NANOS.recordSince(start);
+        
+        if (coord == null) {
+            logger.warning("AI has no moves left");
+            return;
+        }
+
+        logger.fine(() -> "AI attacking " + coord.x + "," + coord.y);
+        callback.reportAttack(coord.x, coord.y);
+    }
+
+    @Override
+    public void onAttackResolved(int x, int y, AttackResult result) {
+        aiPlayer.recordResult(x, y, result);
+    }
+
+    @Override
+    public boolean shouldAutoExecuteTurn() {
+        return true; // AI always auto-executes
+    }
+}
\ No newline at end of file
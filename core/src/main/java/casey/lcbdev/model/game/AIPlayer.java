@@ -0,0 +1,114 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.ships.*;
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Simple AI for local testing: random non-overlapping ship placement, with attacks chosen by a
+ * pluggable {@link TargetingStrategy} (random fire unless told otherwise).
+ */
+public class AIPlayer {
+    private static final int MAX_FLEET_ATTEMPTS = 100;
+    private final Player aiModel;
+    private final int rows;
+    private final int cols;
+    private final RandomGenerator rnd;
+    private TargetingStrategy targeting;
+
+    public AIPlayer(int rows, int cols) {
+        this(rows, cols, new Random());
+    }
+
+    /**
+     * @param rnd Source of randomness for placement and attacks. Pass a seeded generator for reproducible games.
+     */
+    public AIPlayer(int rows, int cols, RandomGenerator rnd) {
+        this.rnd = Objects.requireNonNull(rnd, "Random source cannot be null");
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        this.aiModel = new Player(rows, cols);
+        this.targeting = new RandomTargeting(rows, cols, rnd);
+    }
+
+    public Player getPlayerModel() { return aiModel; }
+
+    /**
+     * Replace the attack strategy. Should be called before the first attack.
+     * @param factory Creates the strategy for this AI's board size, sharing its random source
+     */
+    public void setTargeting(TargetingStrategy.Factory factory) {
+        this.targeting = Objects.requireNonNull(factory, "Targeting factory cannot be null").create(rows, cols, rnd);
+    }
+
+    public Coord pickNextAttack() {
+        return targeting.nextAttack();
+    }
+
+    /**
+     * Pick several distinct targets for one salvo.
+     * @param coords Receives the shots as x,y pairs
+     * @return Number of shots picked; fewer than requested once the board runs out of targets.
+     */
+    public int pickSalvo(int[] coords, int shots) {
+        int n = 0;
+        while (n < shots) {
+            Coord c = targeting.nextAttack();
+            if (c == null) break;
+            coords[2 * n] = c.x;
+            coords[2 * n + 1] = c.y;
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Report the outcome of an attack made at a coordinate from {@link #pickNextAttack()}.
+     */
+    public void recordResult(int x, int y, AttackResult result) {
+        targeting.onResult(x, y, result);
+    }
+
+    /**
+     * Place the full fleet, each ship uniformly among the placements still legal.
+     * Candidates come from a shared {@link PlacementTable} and are tested against an occupancy
+     * bitmask, so no attempt allocates. If earlier ships leave no room for a later one on a very
+     * crowded board, the fleet is cleared and laid out again.
+     */
+    public void placeAllShipsRandomly() {
+        long[] occupied = rows * cols <= PlacementTable.MAX_MASK_CELLS
+            ? new long[PlacementTable.maskWords(rows, cols)]
+            : null;
+
+        for (int attempt = 0; attempt < MAX_FLEET_ATTEMPTS; attempt++) {
+            if (tryPlaceFleet(occupied)) return;
+            for (String key : ShipRegistry.SHIP_LENGTH_BY_KEY.keySet()) aiModel.removeShip(key);
+            if (occupied != null) Arrays.fill(occupied, 0L);
+        }
+        throw new IllegalStateException("No room to place the fleet on a " + cols + "x" + rows + " board");
+    }
+
+    private boolean tryPlaceFleet(long[] occupied) {
+        // Registry order is fixed, which keeps seeded placements reproducible
+        for (Map.Entry<String,Integer> e : ShipRegistry.SHIP_LENGTH_BY_KEY.entrySet()) {
+            String key = e.getKey();
+            PlacementTable table = PlacementTable.forShip(e.getValue(), rows, cols);
+
+            int p = table.pick(occupied, aiModel, rnd);
+            if (p < 0) return false;
+
+            Ship ship = ShipRegistry.create(key, table.cellsFor(p));
+            if (!aiModel.addShip(key, ship)) {
+                throw new IllegalStateException("Failed to record placement of ship " + key);
+            }
+            if (occupied != null) table.occupy(p, occupied);
+        }
+        return true;
+    }
+
+    public static final class Coord {
+        public final int x, y;
+        public Coord(int x, int y) { this.x = x; this.y = y; }
+    }
+}
@@ -0,0 +1,31 @@
+package casey.lcbdev.model.game;
+
+public class AttackResult {
+    public enum Type { HIT, MISS, SUNK, ALREADY, INVALID }
+
+    public final Type type;
+    public final String shipKey; 
+
+    public AttackResult(Type type, String shipKey) {
+        this.type = type;
+        this.shipKey = shipKey;
+    }
+
+    // Results without a ship carry no state, so one instance of each is shared
+    private static final AttackResult MISS = new AttackResult(Type.MISS, null);
+    private static final AttackResult ALREADY = new AttackResult(Type.ALREADY, null);
+    private static final AttackResult INVALID = new AttackResult(Type.INVALID, null);
+
+    public static AttackResult hit(String key) { return new AttackResult(Type.HIT, key); }
+    public static AttackResult miss() { return MISS; }
+    public static AttackResult sunk(String key) { return new AttackResult(Type.SUNK, key); }
+    public static AttackResult already() { return ALREADY; }
+    public static AttackResult invalid() { return INVALID; }
+
+    /**
+     * @return true for a shot that landed on the board: a hit, miss or sink.
+     */
+    public boolean isResolved() {
+        return type == Type.HIT || type == Type.MISS || type == Type.SUNK;
+    }
+}
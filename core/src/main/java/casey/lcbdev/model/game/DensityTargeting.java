@@ -0,0 +1,294 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.ships.ShipRegistry;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Hunt/target AI driven by a placement-count density map.
+ * <p>
+ * For each remaining ship length it tracks, per cell, how many placements of that length cover the
+ * cell without crossing a miss or a sunk ship. A miss only revisits the placements through the
+ * changed cell, so it costs O(length^2) rather than a full recount. A sinking does the same for
+ * the ship's cells, then subtracts one ship's worth of that length's counts from the combined
+ * density in a single O(cells) pass, no more than the hunt scan that picks each move.
+ * While there are unresolved hits the AI targets the open cells of placements through them;
+ * otherwise it hunts the open cell with the highest density.
+ */
+public class DensityTargeting implements TargetingStrategy {
+    private static final byte OPEN = 0;
+    private static final byte PENDING = 1;
+    private static final byte MISS = 2;
+    private static final byte HIT = 3;
+    private static final byte SUNK = 4;
+
+    private final int rows;
+    private final int cols;
+    private final RandomGenerator rnd;
+    private final byte[] state;
+
+    // Ships still afloat, by length
+    private final int[] remainingByLength;
+    // Valid placements covering each cell, by length
+    private final int[][] densityByLength;
+    // Sum over lengths of remainingByLength[len] * densityByLength[len][cell]
+    private final int[] density;
+
+    private int unresolvedHits = 0;
+    // Scratch for target mode, reset after every pick so nothing is allocated per move
+    private final int[] targetScore;
+    private final int[] touched;
+    private int touchedCount = 0;
+
+    public DensityTargeting(int rows, int cols, RandomGenerator rnd) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rnd = rnd;
+        int cells = rows * cols;
+        this.state = new byte[cells];
+        this.density = new int[cells];
+        this.targetScore = new int[cells];
+        this.touched = new int[cells];
+
+        int maxLen = 0;
+        for (int len : ShipRegistry.SHIP_LENGTH_BY_KEY.values()) maxLen = Math.max(maxLen, len);
+        this.remainingByLength = new int[maxLen + 1];
+        for (int len : ShipRegistry.SHIP_LENGTH_BY_KEY.values()) remainingByLength[len]++;
+
+        this.densityByLength = new int[maxLen + 1][];
+        for (int len = 1; len <= maxLen; len++) {
+            if (remainingByLength[len] == 0) continue;
+            int[] d = new int[cells];
+            densityByLength[len] = d;
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    if (x + len <= cols) for (int i = 0; i < len; i++) d[y * cols + x + i]++;
+                    if (y + len <= rows) for (int i = 0; i < len; i++) d[(y + i) * cols + x]++;
+                }
+            }
+            for (int i = 0; i < cells; i++) density[i] += remainingByLength[len] * d[i];
+        }
+    }
+
+    @Override
+    public AIPlayer.Coord nextAttack() {
+        int idx = unresolvedHits > 0 ? pickTarget() : -1;
+        if (idx < 0) idx = pickHunt();
+        if (idx < 0) return null;
+        state[idx] = PENDING;
+        return new AIPlayer.Coord(idx % cols, idx / cols);
+    }
+
+    @Override
+    public void onResult(int x, int y, AttackResult result) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return;
+        int idx = y * cols + x;
+        switch (result.type) {
+            case MISS -> {
+                if (state[idx] == MISS) return;
+                block(idx);
+                state[idx] = MISS;
+            }
+            case HIT -> {
+                if (state[idx] == HIT) return;
+                state[idx] = HIT;
+                unresolvedHits++;
+            }
+            case SUNK -> {
+                if (state[idx] != HIT) {
+                    state[idx] = HIT;
+                    unresolvedHits++;
+                }
+                sink(x, y, ShipRegistry.lengthFor(result.shipKey));
+            }
+            default -> {
+                // ALREADY / INVALID carry no new information
+                if (state[idx] == PENDING) state[idx] = OPEN;
+            }
+        }
+    }
+
+    /**
+     * Density of a cell, for inspection and tests.
+     */
+    public int densityAt(int x, int y) {
+        return density[y * cols + x];
+    }
+
+    // ---------- Shot knowledge, shared with strategies layered on top ----------
+
+    boolean isOpen(int idx) { return state[idx] == OPEN; }
+    boolean isBlocked(int idx) { return state[idx] == MISS || state[idx] == SUNK; }
+    boolean isUnresolvedHit(int idx) { return state[idx] == HIT; }
+    int unresolvedHitCount() { return unresolvedHits; }
+    int maxShipLength() { return remainingByLength.length - 1; }
+    int remainingShips(int len) { return remainingByLength[len]; }
+
+    /**
+     * Record that a cell chosen by another strategy has been fired at.
+     */
+    void markPending(int idx) {
+        if (state[idx] == OPEN) state[idx] = PENDING;
+    }
+
+    // ---------- Hunt / target ----------
+
+    private int pickHunt() {
+        int best = -1;
+        int bestScore = -1;
+        int ties = 0;
+        for (int i = 0; i < state.length; i++) {
+            if (state[i] != OPEN) continue;
+            int s = density[i];
+            if (s > bestScore) {
+                bestScore = s;
+                best = i;
+                ties = 1;
+            } else if (s == bestScore && rnd.nextInt(++ties) == 0) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int pickTarget() {
+        for (int i = 0; i < state.length; i++) {
+            if (state[i] != HIT) continue;
+            scorePlacementsThrough(i % cols, i / cols);
+        }
+
+        int best = -1;
+        int bestScore = 0;
+        int ties = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int i = touched[t];
+            int s = targetScore[i];
+            if (s > bestScore) {
+                bestScore = s;
+                best = i;
+                ties = 1;
+            } else if (s == bestScore && rnd.nextInt(++ties) == 0) {
+                best = i;
+            }
+            targetScore[i] = 0;
+        }
+        touchedCount = 0;
+        return best;
+    }
+
+    /**
+     * Credit the open cells of every valid placement through a hit, weighted by how many hits the
+     * placement explains so that lines of hits are extended before isolated guesses.
+     */
+    private void scorePlacementsThrough(int hx, int hy) {
+        for (int len = 1; len < remainingByLength.length; len++) {
+            int ships = remainingByLength[len];
+            if (ships == 0) continue;
+            for (int sx = Math.max(0, hx - len + 1); sx <= hx && sx + len <= cols; sx++) {
+                scorePlacement(sx, hy, 1, 0, len, ships);
+            }
+            for (int sy = Math.max(0, hy - len + 1); sy <= hy && sy + len <= rows; sy++) {
+                scorePlacement(hx, sy, 0, 1, len, ships);
+            }
+        }
+    }
+
+    private void scorePlacement(int sx, int sy, int dx, int dy, int len, int ships) {
+        int hits = 0;
+        int start = sy * cols + sx;
+        int step = dy * cols + dx;
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            byte s = state[c];
+            if (s == MISS || s == SUNK) return;
+            if (s == HIT) hits++;
+        }
+        int weight = ships * hits * hits;
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            if (state[c] != OPEN) continue;
+            if (targetScore[c] == 0) touched[touchedCount++] = c;
+            targetScore[c] += weight;
+        }
+    }
+
+    // ---------- Incremental density updates ----------
+
+    /**
+     * Remove every placement through idx that was still valid. Must be called before idx is marked blocked.
+     */
+    private void block(int idx) {
+        int bx = idx % cols;
+        int by = idx / cols;
+        for (int len = 1; len < remainingByLength.length; len++) {
+            int ships = remainingByLength[len];
+            if (ships == 0) continue;
+            int[] d = densityByLength[len];
+            for (int sx = Math.max(0, bx - len + 1); sx <= bx && sx + len <= cols; sx++) {
+                removeIfValid(by * cols + sx, 1, len, idx, d, ships);
+            }
+            for (int sy = Math.max(0, by - len + 1); sy <= by && sy + len <= rows; sy++) {
+                removeIfValid(sy * cols + bx, cols, len, idx, d, ships);
+            }
+        }
+    }
+
+    private void removeIfValid(int start, int step, int len, int blocking, int[] d, int ships) {
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            if (c == blocking) continue;
+            byte s = state[c];
+            if (s == MISS || s == SUNK) return;
+        }
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            d[c]--;
+            density[c] -= ships;
+        }
+    }
+
+    /**
+     * Resolve a sunk ship: find a straight run of hits of the ship's length through (x,y),
+     * block those cells and drop one ship of that length from the density.
+     */
+    private void sink(int x, int y, int len) {
+        if (len <= 0 || len >= remainingByLength.length || remainingByLength[len] == 0) {
+            resolve(y * cols + x);
+            return;
+        }
+
+        int start = findHitRun(x, y, 1, 0, len);
+        int step = 1;
+        if (start < 0) {
+            start = findHitRun(x, y, 0, 1, len);
+            step = cols;
+        }
+        if (start < 0) {
+            resolve(y * cols + x);
+        } else {
+            for (int i = 0, c = start; i < len; i++, c += step) resolve(c);
+        }
+
+        // The one step that touches every cell: the combined density weights each length by its ship count
+        int[] d = densityByLength[len];
+        remainingByLength[len]--;
+        for (int i = 0; i < density.length; i++) density[i] -= d[i];
+    }
+
+    private void resolve(int idx) {
+        if (state[idx] == SUNK) return;
+        if (state[idx] == HIT) unresolvedHits--;
+        block(idx);
+        state[idx] = SUNK;
+    }
+
+    private int findHitRun(int x, int y, int dx, int dy, int len) {
+        for (int back = len - 1; back >= 0; back--) {
+            int sx = x - dx * back;
+            int sy = y - dy * back;
+            if (sx < 0 || sy < 0 || sx + dx * (len - 1) >= cols || sy + dy * (len - 1) >= rows) continue;
+            boolean allHits = true;
+            for (int i = 0; i < len && allHits; i++) {
+                allHits = state[(sy + dy * i) * cols + sx + dx * i] == HIT;
+            }
+            if (allHits) return sy * cols + sx;
+        }
+        return -1;
+    }
+}
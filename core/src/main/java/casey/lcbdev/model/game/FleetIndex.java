@@ -0,0 +1,68 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.util.TiledIntGrid;
+
+/**
+ * Per-player occupancy index mapping each board cell to the ship segment on it.
+ * Entries pack (ship id + 1) in the high 16 bits and the segment offset in the low 16 bits,
+ * so a lookup is one array read. 0 means open water.
+ * Entries live in a tiled grid, so only the regions holding ships are backed by memory.
+ */
+public final class FleetIndex {
+    public static final int EMPTY = 0;
+
+    private final int rows;
+    private final int cols;
+    private final TiledIntGrid codes;
+
+    public FleetIndex(int rows, int cols) {
+        this.codes = new TiledIntGrid(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    public static int shipId(int code) { return (code >>> 16) - 1; }
+    public static int segment(int code) { return code & 0xFFFF; }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * @return Packed entry at (x,y), or {@link #EMPTY} if no ship is there or the coordinate is off the board.
+     */
+    public int codeAt(int x, int y) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return EMPTY;
+        return codes.get(x, y);
+    }
+
+    /**
+     * Check that every cell is on the board and not already claimed by another ship.
+     */
+    public boolean canPlace(ShipCell[] cells) {
+        if (cells == null) return false;
+        for (ShipCell c : cells) {
+            if (c == null) return false;
+            if (c.getX() < 0 || c.getX() >= cols || c.getY() < 0 || c.getY() >= rows) return false;
+            if (codes.get(c.getX(), c.getY()) != EMPTY) return false;
+        }
+        return true;
+    }
+
+    void put(int shipId, ShipCell[] cells) {
+        int high = (shipId + 1) << 16;
+        for (int i = 0; i < cells.length; i++) {
+            codes.set(cells[i].getX(), cells[i].getY(), high | i);
+        }
+    }
+
+    void remove(ShipCell[] cells) {
+        for (ShipCell c : cells) {
+            codes.set(c.getX(), c.getY(), EMPTY);
+        }
+    }
+
+    void clear() {
+        codes.clear();
+    }
+}
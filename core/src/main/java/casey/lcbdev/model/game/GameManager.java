@@ -0,0 +1,595 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.metrics.Counter;
+import casey.lcbdev.metrics.Metrics;
+import casey.lcbdev.model.board.ShotState;
+import casey.lcbdev.model.ships.ShipRegistry;
+import casey.lcbdev.persist.MatchJournal;
+import casey.lcbdev.persist.MatchJournals;
+import casey.lcbdev.util.Logging;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Central game coordinator that manages match flow and delegates to appropriate handlers.
+ * This class is UI-agnostic and can work with local AI or remote network opponents.
+ */
+public class GameManager {
+    private static final Logger logger = Logging.getLogger(GameManager.class);
+    private static final Counter MATCHES_STARTED = Metrics.counter(Metrics.MATCHES_STARTED);
+
+    private final MatchController matchController;
+    private final Player localPlayer;
+    private final Player opponentPlayer;
+    private final OpponentHandler opponentHandler;
+    // The same handler when it resolves the local player's attacks, otherwise null
+    private final RemoteResolvingOpponent remoteOpponent;
+    private BoardUpdater boardUpdater;
+    private int salvoSize = 1;
+    private AttackResult[] salvoResults = new AttackResult[0];
+
+    // Local shots sent to an opponent who resolves them, and the outcomes reported so far
+    private int[] awaitingCoords;
+    private AttackResult[] awaitingResults;
+    private int awaitingCount;
+    private int opponentShipsSunk = 0;
+
+    private boolean started = false;
+    private MatchJournal journal;
+
+    public interface BoardUpdater {
+        void updateLocalShipCell(int x, int y);
+        void updateOpponentShotCell(int x, int y, ShotState state);
+        void showStatus(String message);
+        void onGameOver(boolean localPlayerWon);
+
+        /**
+         * Apply a whole salvo at once. The default forwards each landed shot to the single-cell
+         * methods; override it to repaint once per salvo.
+         * @param local true for the local player's salvo at the opponent, false for incoming fire
+         */
+        default void updateSalvo(int[] coords, AttackResult[] results, int shots, boolean local) {
+            for (int i = 0; i < shots; i++) {
+                AttackResult r = results[i];
+                if (!r.isResolved()) continue;
+                int x = coords[2 * i];
+                int y = coords[2 * i + 1];
+                if (local) {
+                    updateOpponentShotCell(x, y, r.type == AttackResult.Type.MISS ? ShotState.MISS : ShotState.HIT);
+                } else {
+                    updateLocalShipCell(x, y);
+                }
+            }
+        }
+    }
+
+    // Interface for handling opponent moves (AI, Network, etc.)
+    public interface OpponentHandler {
+        /**
+         * Called when it becomes the opponent's turn.
+         * Implementation should execute opponent's attack(s) and call back through GameManager.
+         * @param callback Use this to report opponent's attacks back to the game
+         */
+        void executeOpponentTurn(OpponentMoveCallback callback);
+        boolean shouldAutoExecuteTurn();
+
+        /**
+         * Called once an attack reported through the callback has been resolved.
+         * Lets adaptive opponents learn from the outcome.
+         */
+        default void onAttackResolved(int x, int y, AttackResult result) {}
+
+        /**
+         * Called once the local player's attack has been resolved.
+         * Lets remote opponents be told about the shot.
+         */
+        default void onLocalAttack(int x, int y, AttackResult result) {}
+
+        /**
+         * Salvo form of {@link #onAttackResolved}, called once per incoming salvo.
+         */
+        default void onSalvoResolved(int[] coords, AttackResult[] results, int shots) {
+            for (int i = 0; i < shots; i++) onAttackResolved(coords[2 * i], coords[2 * i + 1], results[i]);
+        }
+
+        /**
+         * Salvo form of {@link #onLocalAttack}, called once per local salvo.
+         */
+        default void onLocalSalvo(int[] coords, AttackResult[] results, int shots) {
+            for (int i = 0; i < shots; i++) onLocalAttack(coords[2 * i], coords[2 * i + 1], results[i]);
+        }
+    }
+
+    /**
+     * An opponent whose fleet stays on their side, e.g. a remote player. The local player's attacks
+     * are passed to {@link #requestResolution} instead of being resolved here.
+     */
+    public interface RemoteResolvingOpponent extends OpponentHandler {
+        /**
+         * Have the opponent resolve the local player's shots against their fleet. Every shot must
+         * be answered through the callback, in order.
+         * @param coords Shots as x,y pairs, all on the board and not fired at before
+         */
+        void requestResolution(int[] coords, ShotResultCallback callback);
+    }
+
+    public interface ShotResultCallback {
+        /**
+         * Report the opponent's outcome for one requested shot. Call on the game thread.
+         */
+        void reportResult(int x, int y, AttackResult result);
+    }
+
+    public interface OpponentMoveCallback {
+        void reportAttack(int x, int y);
+
+        /**
+         * Report a whole salvo as x,y pairs. Only valid in salvo games.
+         */
+        void reportSalvo(int[] coords);
+
+        /**
+         * @return Shots the opponent fires each turn: 1 in the classic game.
+         */
+        int shotsPerTurn();
+    }
+
+    public GameManager(Player local, Player opponent, OpponentHandler handler) {
+        this(local, opponent, handler, MatchController.DEFAULT_ROWS, MatchController.DEFAULT_COLS);
+    }
+
+    public GameManager(Player local, Player opponent, OpponentHandler handler, int rows, int cols) {
+        this(local, opponent, handler, rows, cols, true);
+    }
+
+    /**
+     * @param localStarts Whether the local player takes the first turn. If not, call {@link #start()}
+     *                    once the board updater is set so the opponent can move.
+     */
+    public GameManager(Player local, Player opponent, OpponentHandler handler, int rows, int cols, boolean localStarts) {
+        this(new MatchController(local, opponent, localStarts ? local : opponent, rows, cols), handler);
+    }
+
+    private GameManager(MatchController match, OpponentHandler handler) {
+        this.matchController = match;
+        this.localPlayer = match.getPlayerA();
+        this.opponentPlayer = match.getPlayerB();
+        this.opponentHandler = handler;
+        this.remoteOpponent = handler instanceof RemoteResolvingOpponent remote ? remote : null;
+    }
+
+    /**
+     * Continue a match rebuilt from its journal, which goes on recording it. Player A of the
+     * journal is the local player. Set the board updater and call {@link #start()} as for a new game.
+     */
+    public static GameManager resume(MatchJournal journal, OpponentHandler handler) {
+        GameManager game = new GameManager(journal.getMatch(), handler);
+        game.journal = journal;
+        return game;
+    }
+
+    /**
+     * Begin play once both fleets are placed and the board updater is set. A new match is
+     * journaled if {@link MatchJournals} is enabled, and the opponent moves if it is their turn.
+     * The journal is deleted when the match finishes.
+     */
+    public void start() {
+        if (!started) {
+            started = true;
+            // Restored and resumed matches were counted when first started
+            if (isNewMatch() && journal == null) MATCHES_STARTED.increment();
+            // The opponent's fleet isn't known here, so such a match couldn't be replayed from a journal
+            if (journal == null && isNewMatch() && !resolvesRemotely()) {
+                journal = MatchJournals.start(matchController);
+            }
+        }
+        if (opponentHandler != null && opponentHandler.shouldAutoExecuteTurn()) {
+            triggerOpponentTurn();
+        }
+    }
+
+    private boolean isNewMatch() {
+        return matchController.getShotsAt(localPlayer).getShotCount() == 0
+            && matchController.getShotsAt(opponentPlayer).getShotCount() == 0;
+    }
+
+    /**
+     * @return The journal recording this match, or null if it isn't journaled.
+     */
+    public MatchJournal getJournal() {
+        return journal;
+    }
+
+    public void setBoardUpdater(BoardUpdater updater) {
+        this.boardUpdater = updater;
+    }
+
+    /**
+     * Switch to the salvo variant: each turn is one volley of up to this many shots, after which the
+     * turn passes whatever was hit. Set before play starts.
+     * @param shots Shots per turn. 1 is the classic game, where a hit earns another shot.
+     */
+    public void setSalvoSize(int shots) {
+        if (shots < 1) throw new IllegalArgumentException("Salvo size must be at least 1");
+        this.salvoSize = shots;
+    }
+
+    public int getSalvoSize() {
+        return salvoSize;
+    }
+
+    public boolean isSalvoMode() {
+        return salvoSize > 1;
+    }
+
+    /**
+     * Fire a single shot. In salvo mode this is a salvo of one, which ends the turn.
+     */
+    public void handleLocalAttack(int x, int y) {
+        if (isSalvoMode()) {
+            handleLocalSalvo(new int[] { x, y });
+            return;
+        }
+        if (!matchController.isTurn(localPlayer)) {
+            updateStatus("Not your turn!");
+            return;
+        }
+
+        if (resolvesRemotely()) {
+            AttackResult rejected = matchController.rejectionFor(localPlayer, opponentPlayer, x, y);
+            if (rejected != null) processAttackResult(rejected, x, y, true);
+            else requestResolution(new int[] { x, y });
+            return;
+        }
+
+        finishLocalAttack(x, y, matchController.attack(localPlayer, opponentPlayer, x, y));
+    }
+
+    private void finishLocalAttack(int x, int y, AttackResult result) {
+        if (opponentHandler != null) {
+            opponentHandler.onLocalAttack(x, y, result);
+        }
+        processAttackResult(result, x, y, true);
+
+        if (isOpponentFleetSunk()) {
+            finishGame(true);
+            return;
+        }
+
+        if (matchController.isTurn(opponentPlayer) &&
+            opponentHandler != null && 
+            opponentHandler.shouldAutoExecuteTurn()) {
+            triggerOpponentTurn();
+        }
+    }
+
+    public void handleOpponentAttack(int x, int y) {
+        if (!matchController.isTurn(opponentPlayer)) {
+            logger.warning("Opponent attacked out of turn");
+            // Still answered, so a remote attacker isn't left waiting for the result
+            if (opponentHandler != null) opponentHandler.onAttackResolved(x, y, AttackResult.invalid());
+            return;
+        }
+
+        AttackResult result = matchController.attack(opponentPlayer, localPlayer, x, y);
+        if (opponentHandler != null) {
+            opponentHandler.onAttackResolved(x, y, result);
+        }
+        processAttackResult(result, x, y, false);
+
+        if (matchController.isAllSunk(localPlayer)) {
+            finishGame(false);
+        }
+    }
+
+    /**
+     * Fire a salvo in salvo mode.
+     * @param coords Up to {@link #getSalvoSize()} shots as x,y pairs
+     */
+    public void handleLocalSalvo(int[] coords) {
+        if (!isSalvoMode()) {
+            updateStatus("Salvos are only allowed in salvo mode");
+            return;
+        }
+        if (!matchController.isTurn(localPlayer)) {
+            updateStatus("Not your turn!");
+            return;
+        }
+        if (!isValidSalvo(coords)) {
+            updateStatus("A salvo is 1 to " + salvoSize + " shots");
+            return;
+        }
+
+        if (resolvesRemotely()) {
+            int[] landing = landingShots(coords);
+            if (landing.length == 0) updateStatus("No shots in that salvo could be fired");
+            else requestResolution(landing);
+            return;
+        }
+
+        int shots = coords.length / 2;
+        AttackResult[] results = resultsFor(shots);
+        int landed = matchController.attackSalvo(localPlayer, opponentPlayer, coords, results);
+        if (landed == 0) {
+            updateStatus("No shots in that salvo could be fired");
+            return;
+        }
+        finishLocalSalvo(coords, results, shots);
+    }
+
+    private void finishLocalSalvo(int[] coords, AttackResult[] results, int shots) {
+        if (opponentHandler != null) {
+            opponentHandler.onLocalSalvo(coords, results, shots);
+        }
+        processSalvoResults(coords, results, shots, true);
+
+        if (isOpponentFleetSunk()) {
+            finishGame(true);
+            return;
+        }
+        matchController.endTurn();
+
+        if (opponentHandler != null && opponentHandler.shouldAutoExecuteTurn()) {
+            triggerOpponentTurn();
+        }
+    }
+
+    public void handleOpponentSalvo(int[] coords) {
+        if (!matchController.isTurn(opponentPlayer)) {
+            logger.warning("Opponent fired a salvo out of turn");
+            rejectOpponentSalvo(coords);
+            return;
+        }
+        if (!isSalvoMode() || !isValidSalvo(coords)) {
+            logger.warning("Opponent fired an illegal salvo");
+            rejectOpponentSalvo(coords);
+            return;
+        }
+
+        int shots = coords.length / 2;
+        AttackResult[] results = resultsFor(shots);
+        int landed = matchController.attackSalvo(opponentPlayer, localPlayer, coords, results);
+        if (opponentHandler != null) {
+            opponentHandler.onSalvoResolved(coords, results, shots);
+        }
+        if (landed == 0) return;
+        processSalvoResults(coords, results, shots, false);
+
+        if (matchController.isAllSunk(localPlayer)) {
+            finishGame(false);
+            return;
+        }
+        matchController.endTurn();
+    }
+
+    // Every shot is still answered, as INVALID, so a remote attacker isn't left waiting
+    private void rejectOpponentSalvo(int[] coords) {
+        if (opponentHandler == null || coords == null) return;
+        int shots = coords.length / 2;
+        AttackResult[] results = new AttackResult[shots];
+        Arrays.fill(results, AttackResult.invalid());
+        opponentHandler.onSalvoResolved(coords, results, shots);
+    }
+
+    // ========== Attacks resolved by the opponent ==========
+
+    /**
+     * @return true if the opponent resolves the local player's attacks, so their fleet and the
+     *         damage done to it are only known from what they reported.
+     */
+    public boolean resolvesRemotely() {
+        return remoteOpponent != null;
+    }
+
+    // The shots of a salvo that would land, dropping repeats within it
+    private int[] landingShots(int[] coords) {
+        int[] landing = new int[coords.length];
+        int n = 0;
+        for (int i = 0; i < coords.length; i += 2) {
+            int x = coords[i];
+            int y = coords[i + 1];
+            if (matchController.rejectionFor(localPlayer, opponentPlayer, x, y) != null) continue;
+            boolean repeat = false;
+            for (int j = 0; j < n && !repeat; j += 2) repeat = landing[j] == x && landing[j + 1] == y;
+            if (repeat) continue;
+            landing[n++] = x;
+            landing[n++] = y;
+        }
+        return Arrays.copyOf(landing, n);
+    }
+
+    private void requestResolution(int[] coords) {
+        if (awaitingCoords != null) {
+            updateStatus("Waiting for the opponent");
+            return;
+        }
+        awaitingCoords = coords;
+        awaitingResults = new AttackResult[coords.length / 2];
+        awaitingCount = 0;
+        remoteOpponent.requestResolution(coords, this::applyRemoteResult);
+    }
+
+    private void applyRemoteResult(int x, int y, AttackResult result) {
+        int i = awaitingCount;
+        if (awaitingCoords == null || awaitingCoords[2 * i] != x || awaitingCoords[2 * i + 1] != y) {
+            logger.warning("Ignoring opponent's result for a shot not fired: " + x + "," + y);
+            return;
+        }
+        AttackResult recorded = result.isResolved()
+            ? matchController.recordAttack(localPlayer, opponentPlayer, x, y, result)
+            : result;
+        if (!recorded.isResolved()) logger.warning("Opponent could not resolve shot at " + x + "," + y + ": " + result.type);
+        if (recorded.type == AttackResult.Type.SUNK) opponentShipsSunk++;
+        awaitingResults[i] = recorded;
+        awaitingCount++;
+        if (awaitingCount < awaitingResults.length) return;
+
+        int[] coords = awaitingCoords;
+        AttackResult[] results = awaitingResults;
+        awaitingCoords = null;
+        awaitingResults = null;
+        if (isSalvoMode()) finishLocalSalvo(coords, results, results.length);
+        else finishLocalAttack(x, y, recorded);
+    }
+
+    // An opponent who resolves our shots keeps their fleet, so count the sinkings they report
+    private boolean isOpponentFleetSunk() {
+        if (resolvesRemotely()) return opponentShipsSunk >= ShipRegistry.SHIP_LENGTH_BY_KEY.size();
+        return matchController.isAllSunk(opponentPlayer);
+    }
+
+    private boolean isValidSalvo(int[] coords) {
+        return coords != null && coords.length >= 2 && coords.length % 2 == 0 && coords.length / 2 <= salvoSize;
+    }
+
+    // Reused between salvos; handlers must copy results they keep
+    private AttackResult[] resultsFor(int shots) {
+        if (salvoResults.length < shots) salvoResults = new AttackResult[salvoSize];
+        return salvoResults;
+    }
+
+    private void processSalvoResults(int[] coords, AttackResult[] results, int shots, boolean isLocalAttack) {
+        if (boardUpdater != null) {
+            boardUpdater.updateSalvo(coords, results, shots, isLocalAttack);
+        }
+
+        int hits = 0;
+        StringBuilder sunk = new StringBuilder();
+        for (int i = 0; i < shots; i++) {
+            AttackResult r = results[i];
+            if (r.type == AttackResult.Type.HIT || r.type == AttackResult.Type.SUNK) hits++;
+            if (r.type == AttackResult.Type.SUNK) sunk.append(sunk.isEmpty() ? "" : ", ").append(r.shipKey);
+        }
+        String who = isLocalAttack ? "Salvo" : "Opponent salvo";
+        updateStatus(who + ": " + hits + " of " + shots + " hit" + (sunk.isEmpty() ? "" : ", sunk " + sunk));
+    }
+
+    private void processAttackResult(AttackResult result, int x, int y, boolean isLocalAttack) {
+        switch (result.type) {
+            case INVALID -> updateStatus("Invalid attack at " + x + "," + y);
+            
+            case ALREADY -> updateStatus("Already attacked " + x + "," + y);
+            
+            case MISS -> {
+                if (isLocalAttack) {
+                    updateOpponentBoard(x, y, ShotState.MISS);
+                    updateStatus("Miss at " + x + "," + y);
+                } else {
+                    updateLocalBoard(x, y);
+                    updateStatus("Opponent missed");
+                }
+                matchController.endTurn();
+            }
+            
+            case HIT -> {
+                if (isLocalAttack) {
+                    updateOpponentBoard(x, y, ShotState.HIT);
+                    updateStatus("Hit! (" + result.shipKey + ") - Fire again!");
+                } else {
+                    updateLocalBoard(x, y);
+                    updateStatus("Opponent hit your " + result.shipKey);
+                }
+            }
+
+            case SUNK -> {
+                if (isLocalAttack) {
+                    updateOpponentBoard(x, y, ShotState.HIT);
+                    updateStatus("Sunk " + result.shipKey + "!");
+                } else {
+                    updateLocalBoard(x, y);
+                    updateStatus("Opponent sunk your " + result.shipKey + "!");
+                }
+                matchController.endTurn();
+            }
+        }
+    }
+
+    private void finishGame(boolean localPlayerWon) {
+        if (journal != null) {
+            // A finished match has nothing left to recover
+            MatchJournals.discard(journal);
+            journal = null;
+        }
+        if (boardUpdater != null) {
+            boardUpdater.onGameOver(localPlayerWon);
+        }
+    }
+
+    private void triggerOpponentTurn() {
+        if (opponentHandler == null) return;
+        if (!matchController.isTurn(opponentPlayer)) return;
+        if (matchController.isAllSunk(localPlayer)) return;
+        
+        opponentHandler.executeOpponentTurn(new OpponentMoveCallback() {
+            @Override
+            public void reportAttack(int x, int y) {
+                if (isSalvoMode()) {
+                    reportSalvo(new int[] { x, y });
+                    return;
+                }
+                handleOpponentAttack(x, y);
+                continueOpponentTurn();
+            }
+
+            @Override
+            public void reportSalvo(int[] coords) {
+                handleOpponentSalvo(coords);
+                continueOpponentTurn();
+            }
+
+            @Override
+            public int shotsPerTurn() {
+                return salvoSize;
+            }
+        });
+    }
+
+    private void continueOpponentTurn() {
+        if (matchController.isTurn(opponentPlayer) &&
+            !matchController.isAllSunk(localPlayer) &&
+            opponentHandler.shouldAutoExecuteTurn()) {
+            triggerOpponentTurn();
+        }
+    }
+
+    private void updateLocalBoard(int x, int y) {
+        if (boardUpdater != null) {
+            boardUpdater.updateLocalShipCell(x, y);
+        }
+    }
+
+    private void updateOpponentBoard(int x, int y, ShotState state) {
+        if (boardUpdater != null) {
+            boardUpdater.updateOpponentShotCell(x, y, state);
+        }
+    }
+
+    private void updateStatus(String message) {
+        if (boardUpdater != null) {
+            boardUpdater.showStatus(message);
+        }
+    }
+
+    public boolean isLocalPlayerTurn() {
+        return matchController.isTurn(localPlayer);
+    }
+
+    public boolean isGameOver() {
+        return matchController.isAllSunk(localPlayer) || isOpponentFleetSunk();
+    }
+
+    public Player getLocalPlayer() {
+        return localPlayer;
+    }
+
+    public Player getOpponentPlayer() {
+        return opponentPlayer;
+    }
+
+    /**
+     * @return The match being played, with the local player as player A.
+     */
+    public MatchController getMatchController() {
+        return matchController;
+    }
+}
\ No newline at end of file
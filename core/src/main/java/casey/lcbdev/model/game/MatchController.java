@@ -0,0 +1,367 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.ShipRegistry;
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.metrics.Histogram;
+import casey.lcbdev.metrics.Metrics;
+import casey.lcbdev.util.Logging;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.Objects;
+
+/**
+ * Core match logic controller. Handles turn management, attack resolution, and win conditions.
+ * This class is completely UI-agnostic and can be used for local or (soon) online games.
+ */
+public class MatchController {
+    private static final Logger logger = Logging.getLogger(MatchController.class);
+    private static final Histogram ATTACK_NANOS = Metrics.histogram(Metrics.ATTACK_NANOS);
+    private static final Histogram SALVO_NANOS = Metrics.histogram(Metrics.SALVO_NANOS);
+    public static final int DEFAULT_ROWS = 10;
+    public static final int DEFAULT_COLS = 10;
+
+    private final Player playerA;
+    private final Player playerB;
+    private Player currentTurn;
+    private final int rows;
+    private final int cols;
+
+    // Shots fired at each player, indexed by y * cols + x
+    private final ShotBoard shotsAtA;
+    private final ShotBoard shotsAtB;
+    private static final MatchListener[] NO_LISTENERS = {};
+    // Replaced, never modified, so notifying needs no copy
+    private MatchListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Observes every state change of a match, e.g. to journal it. Called synchronously, so keep it cheap.
+     */
+    public interface MatchListener {
+        /** A shot landed: hit, miss or sunk. Rejected attacks are not reported. */
+        default void onAttack(Player attacker, int x, int y, AttackResult result) {}
+        default void onTurnEnded(Player next) {}
+        default void onReset(Player startingPlayer) {}
+    }
+
+    public MatchController(Player a, Player b, Player startingPlayer) {
+        this(a, b, startingPlayer, DEFAULT_ROWS, DEFAULT_COLS);
+    }
+
+    public MatchController(Player a, Player b, Player startingPlayer, int rows, int cols) {
+        this.playerA = Objects.requireNonNull(a, "Player A cannot be null");
+        this.playerB = Objects.requireNonNull(b, "Player B cannot be null");
+        this.currentTurn = startingPlayer != null ? startingPlayer : a;
+        this.rows = rows;
+        this.cols = cols;
+        this.shotsAtA = new ShotBoard(rows, cols);
+        this.shotsAtB = new ShotBoard(rows, cols);
+        
+        logger.fine(() -> "MatchController initialized (" + cols + "x" + rows + "). Starting player: " +
+                   (currentTurn == playerA ? "A" : "B"));
+    }
+
+    public Player getCurrentPlayer() {
+        return currentTurn;
+    }
+
+    public boolean isTurn(Player player) {
+        return player == currentTurn;
+    }
+
+    /**
+     * @param listener Receives every landed attack, turn change and reset, after the listeners added before it.
+     */
+    public void addListener(MatchListener listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        MatchListener[] now = Arrays.copyOf(listeners, listeners.length + 1);
+        now[listeners.length] = listener;
+        listeners = now;
+    }
+
+    /**
+     * @return false if the listener was not added.
+     */
+    public boolean removeListener(MatchListener listener) {
+        MatchListener[] old = listeners;
+        for (int i = 0; i < old.length; i++) {
+            if (old[i] != listener) continue;
+            MatchListener[] now = new MatchListener[old.length - 1];
+            System.arraycopy(old, 0, now, 0, i);
+            System.arraycopy(old, i + 1, now, i, now.length - i);
+            listeners = now;
+            return true;
+        }
+        return false;
+    }
+
+    public void endTurn() {
+        Player previous = currentTurn;
+        currentTurn = (currentTurn == playerA) ? playerB : playerA;
+        for (MatchListener l : listeners) l.onTurnEnded(currentTurn);
+        logger.fine(() -> "Turn ended. Previous: " + (previous == playerA ? "A" : "B") +
+                   ", Current: " + (currentTurn == playerA ? "A" : "B"));
+    }
+
+    /**
+     * Process an attack from one player against another.
+     * 
+     * @param attacker The player making the attack
+     * @param defender The player being attacked  
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return Result of the attack
+     */
+    public AttackResult attack(Player attacker, Player defender, int x, int y) {
+        long start = Metrics.startTimer();
+        AttackResult result = checkAndResolve(attacker, defender, x, y);
+        // Rejected attacks are timed too, so the histogram covers every call
+        ATTACK_NANOS.recordSince(start);
+        return result;
+    }
+
+    private AttackResult checkAndResolve(Player attacker, Player defender, int x, int y) {
+        if (attacker == null || defender == null) {
+            logger.warning("Attack called with null player");
+            return AttackResult.invalid();
+        }
+        
+        if (!isTurn(attacker)) {
+            logger.warning("Attack attempted out of turn");
+            return AttackResult.invalid();
+        }
+        
+        if (!isValidCoordinate(x, y)) {
+            logger.warning("Invalid coordinates: " + x + "," + y);
+            return AttackResult.invalid();
+        }
+
+        ShotBoard defenderShots = shotsAt(defender);
+        if (defenderShots == null) {
+            logger.warning("Attack against a player not in this match");
+            return AttackResult.invalid();
+        }
+
+        if (!defenderShots.mark(x, y)) {
+            logger.fine(() -> "Coordinate already attacked: " + x + "," + y);
+            return AttackResult.already();
+        }
+
+        AttackResult result = resolveAttack(defender, x, y);
+        for (MatchListener l : listeners) l.onAttack(attacker, x, y, result);
+        logger.fine(() -> "Attack at " + x + "," + y + " -> " + result.type +
+                   (result.shipKey != null ? " (" + result.shipKey + ")" : ""));
+        return result;
+    }
+
+    /**
+     * Resolve a salvo: several shots fired in one turn, in order, exactly as the same number of
+     * {@link #attack} calls would but with one turn check and one log line for the batch.
+     * The turn is not ended here; callers do that once the salvo has been applied.
+     *
+     * @param coords Shot coordinates as x,y pairs
+     * @param out Receives one result per shot, so must hold at least {@code coords.length / 2} entries
+     * @return Number of shots that landed (hit, miss or sunk). Repeats and off-board shots don't count.
+     * @throws IllegalArgumentException If coords has odd length or out is too small.
+     */
+    public int attackSalvo(Player attacker, Player defender, int[] coords, AttackResult[] out) {
+        if (coords.length % 2 != 0) throw new IllegalArgumentException("Salvo coordinates must be x,y pairs");
+        int shots = coords.length / 2;
+        if (out.length < shots) throw new IllegalArgumentException("Result array too small for " + shots + " shots");
+
+        long start = Metrics.startTimer();
+        ShotBoard defenderShots = shotsAt(defender);
+        if (attacker == null || defenderShots == null || !isTurn(attacker)) {
+            logger.warning("Salvo rejected: wrong turn or player not in this match");
+            Arrays.fill(out, 0, shots, AttackResult.invalid());
+            SALVO_NANOS.recordSince(start);
+            return 0;
+        }
+
+        int landed = 0;
+        for (int i = 0; i < shots; i++) {
+            int x = coords[2 * i];
+            int y = coords[2 * i + 1];
+            if (!isValidCoordinate(x, y)) {
+                out[i] = AttackResult.invalid();
+            } else if (!defenderShots.mark(x, y)) {
+                out[i] = AttackResult.already();
+            } else {
+                out[i] = resolveAttack(defender, x, y);
+                for (MatchListener l : listeners) l.onAttack(attacker, x, y, out[i]);
+                landed++;
+            }
+        }
+        int total = landed;
+        logger.fine(() -> "Salvo of " + shots + " shots, " + total + " landed");
+        SALVO_NANOS.recordSince(start);
+        return landed;
+    }
+
+    /**
+     * Check a shot without firing it.
+     * @return null if {@link #attack} would resolve the shot, otherwise the INVALID or ALREADY result it would return.
+     */
+    public AttackResult rejectionFor(Player attacker, Player defender, int x, int y) {
+        ShotBoard defenderShots = shotsAt(defender);
+        if (defenderShots == null || attacker == defender || !isTurn(attacker) || !isValidCoordinate(x, y)) {
+            return AttackResult.invalid();
+        }
+        return defenderShots.isShot(x, y) ? AttackResult.already() : null;
+    }
+
+    /**
+     * Record a shot that the defender's side resolved, for a defender whose fleet is not known here
+     * (e.g. a remote player). Marks the shot and reports it to the listener like {@link #attack},
+     * but leaves ship damage alone.
+     * @param result The defender's outcome; must be a hit, miss or sink
+     * @return The result, or INVALID or ALREADY if the shot could not have been fired.
+     */
+    public AttackResult recordAttack(Player attacker, Player defender, int x, int y, AttackResult result) {
+        if (!result.isResolved()) throw new IllegalArgumentException("Only landed shots can be recorded");
+        AttackResult rejected = rejectionFor(attacker, defender, x, y);
+        if (rejected != null) return rejected;
+        shotsAt(defender).mark(x, y);
+        for (MatchListener l : listeners) l.onAttack(attacker, x, y, result);
+        logger.fine(() -> "Recorded attack at " + x + "," + y + " -> " + result.type);
+        return result;
+    }
+
+    // Package-private so the engine benchmarks can time it in isolation
+    AttackResult resolveAttack(Player defender, int x, int y) {
+        int code = defender.fleetCodeAt(x, y);
+        if (code == FleetIndex.EMPTY) {
+            return AttackResult.miss();
+        }
+
+        int shipId = FleetIndex.shipId(code);
+        int segment = FleetIndex.segment(code);
+        Ship ship = defender.getShip(shipId);
+        ShipCell cell = ship.getCellsOccupied()[segment];
+
+        if (cell.isHit()) {
+            logger.fine(() -> "Cell already marked as hit: " + x + "," + y);
+            return AttackResult.already();
+        }
+
+        ship.markHit(segment);
+
+        String shipKey = ShipRegistry.keyFor(shipId);
+        if (ship.isSunk()) {
+            return AttackResult.sunk(shipKey);
+        } else {
+            return AttackResult.hit(shipKey);
+        }
+    }
+
+    public boolean isAllSunk(Player player) {
+        return player.isFleetSunk();
+    }
+
+    public boolean isGameOver() {
+        return isAllSunk(playerA) || isAllSunk(playerB);
+    }
+
+    public Player getWinner() {
+        if (!isGameOver()) return null;
+        return isAllSunk(playerA) ? playerB : playerA;
+    }
+
+    /**
+     * Start the match over with the same fleets: every shot is cleared and every ship repaired.
+     */
+    public void reset(Player startingPlayer) {
+        shotsAtA.clear();
+        shotsAtB.clear();
+        playerA.restoreHits(shotsAtA);
+        playerB.restoreHits(shotsAtB);
+        currentTurn = startingPlayer != null ? startingPlayer : playerA;
+        for (MatchListener l : listeners) l.onReset(currentTurn);
+        logger.fine(() -> "Match reset. Starting player: " + (currentTurn == playerA ? "A" : "B"));
+    }
+
+    // ========== Replay ==========
+
+    /**
+     * Apply a recorded attack. Same rules and listener call as {@link #attack}, but not logged,
+     * since replays and crash recovery re-apply moves that were logged when first played.
+     */
+    public AttackResult replayAttack(Player attacker, Player defender, int x, int y) {
+        ShotBoard defenderShots = shotsAt(defender);
+        if (defenderShots == null || attacker == defender || !isTurn(attacker) || !isValidCoordinate(x, y)) {
+            return AttackResult.invalid();
+        }
+        if (!defenderShots.mark(x, y)) return AttackResult.already();
+        AttackResult result = resolveAttack(defender, x, y);
+        for (MatchListener l : listeners) l.onAttack(attacker, x, y, result);
+        return result;
+    }
+
+    /**
+     * {@link #endTurn()} without the log line, for replays.
+     */
+    public void replayEndTurn() {
+        currentTurn = (currentTurn == playerA) ? playerB : playerA;
+        for (MatchListener l : listeners) l.onTurnEnded(currentTurn);
+    }
+
+    /**
+     * Copy both shot boards out, e.g. to keep a snapshot to {@link #restore} later.
+     * @param atA Board sized like this match, receives the shots fired at player A
+     * @param atB Same for player B
+     */
+    public void copyShots(ShotBoard atA, ShotBoard atB) {
+        atA.copyFrom(shotsAtA);
+        atB.copyFrom(shotsAtB);
+    }
+
+    /**
+     * Jump to a state taken with {@link #copyShots}. Ship damage is rebuilt from the shots.
+     * Not reported to the listener.
+     * @param toMove Player A or B
+     */
+    public void restore(ShotBoard atA, ShotBoard atB, Player toMove) {
+        shotsAtA.copyFrom(atA);
+        shotsAtB.copyFrom(atB);
+        playerA.restoreHits(shotsAtA);
+        playerB.restoreHits(shotsAtB);
+        currentTurn = toMove == playerB ? playerB : playerA;
+    }
+
+    // Utility
+    private boolean isValidCoordinate(int x, int y) {
+        return x >= 0 && x < cols && y >= 0 && y < rows;
+    }
+
+    private ShotBoard shotsAt(Player player) {
+        if (player == playerA) return shotsAtA;
+        if (player == playerB) return shotsAtB;
+        return null;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public Player getPlayerA() {
+        return playerA;
+    }
+
+    public Player getPlayerB() {
+        return playerB;
+    }
+
+    /**
+     * Read-only view of the shots fired at a player.
+     * @param player Player A or B
+     * @return Live view of that player's shot bitboard, or null if the player is not in this match.
+     */
+    public ShotView getShotsAt(Player player) {
+        return shotsAt(player);
+    }
+}
\ No newline at end of file
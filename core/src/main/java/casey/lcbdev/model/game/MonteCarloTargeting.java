@@ -0,0 +1,292 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.util.Logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo AI: samples fleet layouts consistent with every shot so far, tallies how often
+ * each open cell is occupied and fires at the most likely one.
+ * <p>
+ * Sampling is spread over a caller-supplied pool and bounded per move either by time or by a
+ * count of layout attempts. With a time budget workers stop at the deadline and whatever they
+ * tallied is used, so latency is predictable regardless of hardware or pool contention, but how
+ * many samples a move gets depends on load. With an attempt budget every worker always makes
+ * the same attempts, so moves depend only on the seed. If no layout was found the move falls
+ * back to {@link DensityTargeting}, which also tracks the shot knowledge the samplers read.
+ */
+public class MonteCarloTargeting implements TargetingStrategy {
+    private static final Logger logger = Logging.getLogger(MonteCarloTargeting.class);
+    // Random placement attempts per ship before a sample is rejected
+    private static final int PLACEMENT_TRIES = 64;
+    // Extra time allowed for workers to notice the deadline before their results are discarded
+    private static final long GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final int rows;
+    private final int cols;
+    private final ExecutorService pool;
+    private final long budgetNanos;
+    // Layout attempts per sampler each move, or 0 to sample until the time budget runs out
+    private final int attempts;
+    private final DensityTargeting knowledge;
+    private final Sampler[] samplers;
+
+    // Per-move snapshot of the shot knowledge, read by the samplers
+    private final boolean[] blocked;
+    private final boolean[] open;
+    private final int[] hits;
+    private int hitCount;
+    private int[] ships = new int[0];
+
+    private final List<Callable<Sampler>> tasks;
+    private final int[] tally;
+
+    public MonteCarloTargeting(int rows, int cols, RandomGenerator rnd,
+                               ExecutorService pool, int parallelism, long budgetNanos) {
+        this(rows, cols, rnd, pool, parallelism, budgetNanos, 0);
+        if (budgetNanos <= 0) throw new IllegalArgumentException("Time budget must be positive");
+    }
+
+    // Exactly one of the budgets is set: a time limit, or layout attempts per sampler each move
+    private MonteCarloTargeting(int rows, int cols, RandomGenerator rnd,
+                                ExecutorService pool, int parallelism, long budgetNanos, int attempts) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.attempts = attempts;
+        this.knowledge = new DensityTargeting(rows, cols, rnd);
+
+        int cells = rows * cols;
+        this.blocked = new boolean[cells];
+        this.open = new boolean[cells];
+        this.hits = new int[cells];
+        this.tally = new int[cells];
+
+        this.samplers = new Sampler[parallelism];
+        this.tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Sampler s = new Sampler(new SplittableRandom(rnd.nextLong()), cells);
+            samplers[i] = s;
+            tasks.add(s);
+        }
+    }
+
+    /**
+     * @param pool Pool the samplers run on; may be shared between many matches
+     * @param parallelism Number of sampling tasks submitted per move
+     * @param budget Hard time limit per move
+     */
+    public static TargetingStrategy.Factory factory(ExecutorService pool, int parallelism, long budget, TimeUnit unit) {
+        long nanos = unit.toNanos(budget);
+        return (rows, cols, rnd) -> new MonteCarloTargeting(rows, cols, rnd, pool, parallelism, nanos);
+    }
+
+    /**
+     * Reproducible strategy: moves depend only on the seed, not on timing or load.
+     * @param pool Pool the samplers run on; may be shared between many matches
+     * @param parallelism Number of sampling tasks submitted per move; part of what the seed reproduces
+     * @param attempts Layout attempts per sampling task each move
+     */
+    public static TargetingStrategy.Factory factory(ExecutorService pool, int parallelism, int attempts) {
+        if (attempts <= 0) throw new IllegalArgumentException("Attempt budget must be positive");
+        return (rows, cols, rnd) -> new MonteCarloTargeting(rows, cols, rnd, pool, parallelism, 0L, attempts);
+    }
+
+    @Override
+    public AIPlayer.Coord nextAttack() {
+        long deadline = System.nanoTime() + budgetNanos;
+        snapshot(deadline);
+
+        Arrays.fill(tally, 0);
+        long samples = 0;
+        try {
+            List<Future<Sampler>> done = attempts > 0
+                ? pool.invokeAll(tasks)
+                : pool.invokeAll(tasks, budgetNanos + GRACE_NANOS, TimeUnit.NANOSECONDS);
+            for (Future<Sampler> f : done) {
+                try {
+                    Sampler s = f.get();
+                    if (s == null) continue;
+                    samples += s.accepted;
+                    for (int i = 0; i < tally.length; i++) tally[i] += s.tally[i];
+                } catch (CancellationException | ExecutionException e) {
+                    // Missed the deadline or failed; use what the other workers found
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int best = samples > 0 ? pickMostLikely() : -1;
+        if (best < 0) {
+            logger.fine("No consistent layouts sampled in time, using density fallback");
+            return knowledge.nextAttack();
+        }
+        knowledge.markPending(best);
+        return new AIPlayer.Coord(best % cols, best / cols);
+    }
+
+    @Override
+    public void onResult(int x, int y, AttackResult result) {
+        knowledge.onResult(x, y, result);
+    }
+
+    private void snapshot(long deadline) {
+        hitCount = 0;
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = knowledge.isBlocked(i);
+            open[i] = knowledge.isOpen(i);
+            if (knowledge.isUnresolvedHit(i)) hits[hitCount++] = i;
+        }
+
+        int count = 0;
+        for (int len = 1; len <= knowledge.maxShipLength(); len++) count += knowledge.remainingShips(len);
+        if (ships.length != count) ships = new int[count];
+        int n = 0;
+        // Longest first: they are the hardest to fit
+        for (int len = knowledge.maxShipLength(); len >= 1; len--) {
+            for (int k = knowledge.remainingShips(len); k > 0; k--) ships[n++] = len;
+        }
+
+        for (Sampler s : samplers) s.deadline = deadline;
+    }
+
+    private int pickMostLikely() {
+        int best = -1;
+        int bestScore = 0;
+        for (int i = 0; i < tally.length; i++) {
+            if (open[i] && tally[i] > bestScore) {
+                bestScore = tally[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * One sampling worker. Its arrays are reused across moves and only touched by one task at a time.
+     */
+    private final class Sampler implements Callable<Sampler> {
+        private final SplittableRandom rnd;
+        private final int[] tally;
+        // Cells claimed by the current sample are marked with the current generation
+        private final int[] stamp;
+        private final int[] placedCells;
+        // Guards against a straggler from the previous move still running when the task is resubmitted
+        private final AtomicBoolean running = new AtomicBoolean();
+        private boolean[] used = new boolean[0];
+        private int generation = 0;
+        volatile long deadline;
+        long accepted;
+
+        Sampler(SplittableRandom rnd, int cells) {
+            this.rnd = rnd;
+            this.tally = new int[cells];
+            this.stamp = new int[cells];
+            this.placedCells = new int[cells];
+        }
+
+        @Override
+        public Sampler call() {
+            if (!running.compareAndSet(false, true)) return null;
+            try {
+                Arrays.fill(tally, 0);
+                accepted = 0;
+                if (used.length != ships.length) used = new boolean[ships.length];
+                long end = deadline;
+                int left = attempts;
+                while ((attempts > 0 ? left-- > 0 : System.nanoTime() < end) && !Thread.currentThread().isInterrupted()) {
+                    int placed = sampleLayout();
+                    if (placed < 0) continue;
+                    for (int i = 0; i < placed; i++) {
+                        int c = placedCells[i];
+                        if (open[c]) tally[c]++;
+                    }
+                    accepted++;
+                }
+                return this;
+            } finally {
+                running.set(false);
+            }
+        }
+
+        /**
+         * Lay out the remaining fleet so that every unresolved hit is covered and no ship crosses
+         * a miss, a sunk ship or another sampled ship.
+         * @return Number of cells written to placedCells, or -1 if the sample was rejected.
+         */
+        private int sampleLayout() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            Arrays.fill(used, false);
+            int placed = 0;
+
+            // Cover hits first so the rejection rate stays low in target mode
+            for (int h = 0; h < hitCount; h++) {
+                int hit = hits[h];
+                if (stamp[hit] == generation) continue;
+                int got = -1;
+                for (int t = 0; t < PLACEMENT_TRIES && got < 0; t++) {
+                    int ship = rnd.nextInt(ships.length);
+                    if (used[ship]) continue;
+                    int len = ships[ship];
+                    boolean horiz = rnd.nextBoolean();
+                    int offset = rnd.nextInt(len);
+                    int sx = horiz ? hit % cols - offset : hit % cols;
+                    int sy = horiz ? hit / cols : hit / cols - offset;
+                    got = tryPlace(sx, sy, horiz, len, placed);
+                    if (got >= 0) used[ship] = true;
+                }
+                if (got < 0) return -1;
+                placed = got;
+            }
+
+            for (int ship = 0; ship < ships.length; ship++) {
+                if (used[ship]) continue;
+                int len = ships[ship];
+                int got = -1;
+                for (int t = 0; t < PLACEMENT_TRIES && got < 0; t++) {
+                    boolean horiz = rnd.nextBoolean();
+                    int sx = horiz ? rnd.nextInt(Math.max(1, cols - len + 1)) : rnd.nextInt(cols);
+                    int sy = horiz ? rnd.nextInt(rows) : rnd.nextInt(Math.max(1, rows - len + 1));
+                    got = tryPlace(sx, sy, horiz, len, placed);
+                }
+                if (got < 0) return -1;
+                placed = got;
+            }
+            return placed;
+        }
+
+        private int tryPlace(int sx, int sy, boolean horiz, int len, int placed) {
+            int ex = horiz ? sx + len - 1 : sx;
+            int ey = horiz ? sy : sy + len - 1;
+            if (sx < 0 || sy < 0 || ex >= cols || ey >= rows) return -1;
+            int step = horiz ? 1 : cols;
+            int start = sy * cols + sx;
+            for (int i = 0, c = start; i < len; i++, c += step) {
+                if (blocked[c] || stamp[c] == generation) return -1;
+            }
+            for (int i = 0, c = start; i < len; i++, c += step) {
+                stamp[c] = generation;
+                placedCells[placed++] = c;
+            }
+            return placed;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.model.board.ShipCell;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Every legal placement of one ship length on one board size, shared between all AIs.
+ * <p>
+ * Placements are numbered horizontal first (row-major by start cell), then vertical.
+ * On boards up to {@link #MAX_MASK_CELLS} cells each placement is also precomputed as a few
+ * (word, mask) pairs over a row-major occupancy bitmask, so testing a placement is one AND per
+ * word touched. Larger boards are far too sparse for collisions to matter and test cells directly.
+ */
+final class PlacementTable {
+    static final int MAX_MASK_CELLS = 64 * 64;
+    // Uniform random draws before falling back to counting every legal placement
+    private static final int RANDOM_TRIES = 16;
+    // Bounds memory on a long-running server that sees many board sizes; later sizes are built per use
+    static final int MAX_CACHED = 64;
+    private static final Map<Long, PlacementTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int len;
+    private final int rows;
+    private final int cols;
+    private final int horizontalCount;
+    private final int size;
+
+    // Placement p covers words[offsets[p] .. offsets[p + 1]) with the matching masks; null on large boards
+    private final int[] offsets;
+    private final int[] words;
+    private final long[] masks;
+
+    /**
+     * Tables with masks are cached, up to {@link #MAX_CACHED} of them. A large board's table is
+     * only a few fields, so it is built each time rather than kept.
+     */
+    static PlacementTable forShip(int len, int rows, int cols) {
+        if ((long) rows * cols > MAX_MASK_CELLS) return new PlacementTable(len, rows, cols);
+        // Both sides are at most MAX_MASK_CELLS here, so each fits in 16 bits and keys never collide
+        long key = ((long) len << 32) | ((long) rows << 16) | cols;
+        PlacementTable table = CACHE.get(key);
+        if (table != null) return table;
+        table = new PlacementTable(len, rows, cols);
+        if (CACHE.size() < MAX_CACHED) {
+            PlacementTable raced = CACHE.putIfAbsent(key, table);
+            if (raced != null) table = raced;
+        }
+        return table;
+    }
+
+    // For tests
+    static int cachedCount() {
+        return CACHE.size();
+    }
+
+    private PlacementTable(int len, int rows, int cols) {
+        this.len = len;
+        this.rows = rows;
+        this.cols = cols;
+        this.horizontalCount = cols >= len ? rows * (cols - len + 1) : 0;
+        int verticalCount = rows >= len ? (rows - len + 1) * cols : 0;
+        this.size = horizontalCount + verticalCount;
+
+        if ((long) rows * cols > MAX_MASK_CELLS) {
+            this.offsets = null;
+            this.words = null;
+            this.masks = null;
+            return;
+        }
+
+        int[] off = new int[size + 1];
+        int[] w = new int[size * len];
+        long[] m = new long[size * len];
+        int n = 0;
+        for (int p = 0; p < size; p++) {
+            off[p] = n;
+            int start = startIndex(p);
+            int step = isHorizontal(p) ? 1 : cols;
+            for (int i = 0, c = start; i < len; i++, c += step) {
+                int word = c >>> 6;
+                if (n > off[p] && w[n - 1] == word) {
+                    m[n - 1] |= 1L << c;
+                } else {
+                    w[n] = word;
+                    m[n] = 1L << c;
+                    n++;
+                }
+            }
+        }
+        off[size] = n;
+        this.offsets = off;
+        this.words = Arrays.copyOf(w, n);
+        this.masks = Arrays.copyOf(m, n);
+    }
+
+    int size() { return size; }
+
+    /**
+     * Words needed for an occupancy bitmask on this board.
+     */
+    static int maskWords(int rows, int cols) {
+        return (rows * cols + 63) >>> 6;
+    }
+
+    boolean isHorizontal(int p) { return p < horizontalCount; }
+
+    int startIndex(int p) {
+        if (p < horizontalCount) {
+            int span = cols - len + 1;
+            return (p / span) * cols + p % span;
+        }
+        return p - horizontalCount;
+    }
+
+    boolean fits(int p, long[] occupied) {
+        for (int i = offsets[p], end = offsets[p + 1]; i < end; i++) {
+            if ((occupied[words[i]] & masks[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    void occupy(int p, long[] occupied) {
+        for (int i = offsets[p], end = offsets[p + 1]; i < end; i++) {
+            occupied[words[i]] |= masks[i];
+        }
+    }
+
+    boolean fits(int p, Player fleet) {
+        int start = startIndex(p);
+        int step = isHorizontal(p) ? 1 : cols;
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            if (fleet.fleetCodeAt(c % cols, c / cols) != FleetIndex.EMPTY) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Choose a legal placement uniformly at random.
+     * @param occupied Occupancy bitmask, or null to test against the fleet directly on large boards
+     * @param fleet Ships placed so far
+     * @return Placement number, or -1 if the ship cannot fit anywhere.
+     */
+    int pick(long[] occupied, Player fleet, RandomGenerator rnd) {
+        if (size == 0) return -1;
+        for (int t = 0; t < RANDOM_TRIES; t++) {
+            int p = rnd.nextInt(size);
+            if (fitsEither(p, occupied, fleet)) return p;
+        }
+
+        // Crowded board: count the legal placements and take a uniform one
+        int legal = 0;
+        for (int p = 0; p < size; p++) {
+            if (fitsEither(p, occupied, fleet)) legal++;
+        }
+        if (legal == 0) return -1;
+        int k = rnd.nextInt(legal);
+        for (int p = 0; p < size; p++) {
+            if (fitsEither(p, occupied, fleet) && k-- == 0) return p;
+        }
+        return -1;
+    }
+
+    private boolean fitsEither(int p, long[] occupied, Player fleet) {
+        return occupied != null ? fits(p, occupied) : fits(p, fleet);
+    }
+
+    ShipCell[] cellsFor(int p) {
+        ShipCell[] cells = new ShipCell[len];
+        int start = startIndex(p);
+        int step = isHorizontal(p) ? 1 : cols;
+        for (int i = 0, c = start; i < len; i++, c += step) {
+            cells[i] = new ShipCell(c % cols, c / cols);
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,147 @@
+package casey.lcbdev.model.game;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.ShipRegistry;
+
+public class Player {
+    private final Map<String, Ship> placedShips = new LinkedHashMap<>();
+    private final Ship[] shipsById = new Ship[ShipRegistry.count()];
+    private final FleetIndex fleetIndex;
+    private int liveShips = 0;
+    private final Runnable onShipSunk = () -> liveShips--;
+
+    public Player() {
+        this(MatchController.DEFAULT_ROWS, MatchController.DEFAULT_COLS);
+    }
+
+    public Player(int rows, int cols) {
+        this.fleetIndex = new FleetIndex(rows, cols);
+    }
+
+    /**
+     * Attempt to add a ship, using a given key. 
+     * @param key Ship key
+     * @param ship Ship object
+     * @return true on success, false if invalid, already placed, off the board or overlapping another ship.
+     */
+    public boolean addShip(String key, Ship ship) {
+        if(key == null || ship == null) return false;
+        if(!ShipRegistry.isValidKey(key)) return false;
+        if(placedShips.containsKey(key)) return false;
+
+        int expectedLen = ShipRegistry.lengthFor(key);
+        if(expectedLen != ship.getLength()) return false;
+        if(!fleetIndex.canPlace(ship.getCellsOccupied())) return false;
+
+        int id = ShipRegistry.idFor(key);
+        fleetIndex.put(id, ship.getCellsOccupied());
+        shipsById[id] = ship;
+        placedShips.put(key, ship);
+        if(!ship.isSunk()) liveShips++;
+        ship.setSunkListener(onShipSunk);
+        return true;
+    }
+
+    /**
+     * Remove a placed ship.
+     * @param key The ship key
+     * @return Removed ship or empty if none.
+     */
+    public Optional<Ship> removeShip(String key) {
+        if(key == null) return Optional.empty();
+        Ship removed = placedShips.remove(key);
+        if(removed != null) {
+            fleetIndex.remove(removed.getCellsOccupied());
+            shipsById[ShipRegistry.idFor(key)] = null;
+            removed.setSunkListener(null);
+            if(!removed.isSunk()) liveShips--;
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * Check whether a ship of a given key is already placed.
+     * @param key Ship key
+     * @return If ship has been placed or not.
+     */
+    public boolean hasPlaced(String key) {
+        return placedShips.containsKey(key);
+    }
+
+    /**
+     * Used for ensuring ship placement maximum.
+     * @return The number of placed ships.
+     */
+    public int placedCount() {
+        return placedShips.size();
+    }
+
+    /**
+     * Kept up to date as ships are added, removed and sunk.
+     * @return The number of placed ships still afloat.
+     */
+    public int liveShipCount() {
+        return liveShips;
+    }
+
+    /**
+     * @return true once at least one ship is placed and every placed ship is sunk.
+     */
+    public boolean isFleetSunk() {
+        return liveShips == 0 && !placedShips.isEmpty();
+    }
+
+    /**
+     * Useful for checking if game can start - player must place all their ships.
+     * @return All required ships placed?
+     */
+    public boolean allPlaced() {
+        return placedShips.size() == ShipRegistry.SHIP_LENGTH_BY_KEY.size();
+    }
+
+    /**
+     * Immutable view of placed ships.
+     * @return unmodifiable map if placed ships.
+     */
+    public Map<String, Ship> getPlacedShips() {
+        return Collections.unmodifiableMap(placedShips);
+    }
+
+    /**
+     * Set every ship's damage to match the shots fired at this player, e.g. after rewinding a match.
+     * @param incoming Shots fired at this player
+     */
+    public void restoreHits(ShotView incoming) {
+        liveShips = placedShips.size();
+        for(Ship ship : placedShips.values()) {
+            ship.clearHits();
+            ShipCell[] cells = ship.getCellsOccupied();
+            for(int s = 0; s < cells.length; s++) {
+                if(incoming.isShot(cells[s].getX(), cells[s].getY())) ship.markHit(s);
+            }
+        }
+    }
+
+    /**
+     * Constant time lookup of the ship segment at a coordinate.
+     * @return Packed {@link FleetIndex} entry, or {@link FleetIndex#EMPTY} for open water.
+     */
+    public int fleetCodeAt(int x, int y) {
+        return fleetIndex.codeAt(x, y);
+    }
+
+    /**
+     * @param id Numeric ship id from {@link ShipRegistry#idFor(String)}
+     * @return The placed ship with that id, or null if none.
+     */
+    public Ship getShip(int id) {
+        if(id < 0 || id >= shipsById.length) return null;
+        return shipsById[id];
+    }
+}
@@ -0,0 +1,42 @@
+package casey.lcbdev.model.game;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fires at every cell once in random order, ignoring results.
+ */
+public class RandomTargeting implements TargetingStrategy {
+    private final int cols;
+    private final RandomGenerator rnd;
+
+    // Lazy Fisher-Yates shuffle of cell indices. Only swapped slots are stored,
+    // so memory grows with the number of attacks made rather than the board area.
+    private final Map<Integer, Integer> swapped = new HashMap<>();
+    private int remaining;
+
+    public RandomTargeting(int rows, int cols, RandomGenerator rnd) {
+        this.cols = cols;
+        this.rnd = rnd;
+        this.remaining = rows * cols;
+    }
+
+    @Override
+    public AIPlayer.Coord nextAttack() {
+        if (remaining == 0) return null;
+        int pick = rnd.nextInt(remaining);
+        int last = --remaining;
+        int idx = swapped.getOrDefault(pick, pick);
+        if (pick != last) {
+            swapped.put(pick, swapped.getOrDefault(last, last));
+        }
+        swapped.remove(last);
+        return new AIPlayer.Coord(idx % cols, idx / cols);
+    }
+
+    @Override
+    public void onResult(int x, int y, AttackResult result) {
+        // Random fire does not adapt
+    }
+}
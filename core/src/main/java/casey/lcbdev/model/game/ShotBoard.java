@@ -0,0 +1,61 @@
+package casey.lcbdev.model.game;
+
+import casey.lcbdev.util.TiledBitGrid;
+
+/**
+ * Bitboard of attacked coordinates.
+ * Cell (x,y) maps to bit (y * cols + x), so a duplicate check is a single bit test.
+ * Storage is tiled and allocated on first touch, so large boards only pay for the regions fired upon.
+ */
+public class ShotBoard implements ShotView {
+    private final TiledBitGrid bits;
+    private int shotCount = 0;
+
+    public ShotBoard(int rows, int cols) {
+        this.bits = new TiledBitGrid(rows, cols);
+    }
+
+    @Override
+    public int getRows() { return bits.getRows(); }
+
+    @Override
+    public int getCols() { return bits.getCols(); }
+
+    @Override
+    public boolean isShot(int x, int y) {
+        if (x < 0 || x >= bits.getCols() || y < 0 || y >= bits.getRows()) return false;
+        return bits.get(x, y);
+    }
+
+    /**
+     * Record a shot at (x,y).
+     * @return true if the coordinate had not been attacked before, false if it was already set.
+     */
+    public boolean mark(int x, int y) {
+        if (!bits.set(x, y)) return false;
+        shotCount++;
+        return true;
+    }
+
+    @Override
+    public int getShotCount() { return shotCount; }
+
+    @Override
+    public int nextShot(int fromIndex) {
+        return bits.nextSetBit(fromIndex);
+    }
+
+    public void clear() {
+        bits.clear();
+        shotCount = 0;
+    }
+
+    /**
+     * Overwrite this board with another of the same size.
+     * @throws IllegalArgumentException If the sizes differ.
+     */
+    public void copyFrom(ShotBoard other) {
+        bits.copyFrom(other.bits);
+        shotCount = other.shotCount;
+    }
+}
@@ -0,0 +1,26 @@
+package casey.lcbdev.model.game;
+
+/**
+ * Read-only view of the coordinates fired upon on one player's board.
+ */
+public interface ShotView {
+    int getRows();
+    int getCols();
+
+    /**
+     * @return true if (x,y) has already been attacked. Out of range coordinates are never shot.
+     */
+    boolean isShot(int x, int y);
+
+    /**
+     * @return Number of distinct coordinates attacked so far.
+     */
+    int getShotCount();
+
+    /**
+     * Iterate shots without allocating, in the same way as {@link java.util.BitSet#nextSetBit(int)}.
+     * @param fromIndex Cell index (y * cols + x) to start searching from, inclusive.
+     * @return Index of the next attacked cell, or -1 if there are none.
+     */
+    int nextShot(int fromIndex);
+}
@@ -0,0 +1,23 @@
+package casey.lcbdev.model.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses where an AI fires next and learns from the outcome of each shot.
+ */
+public interface TargetingStrategy {
+    /**
+     * @return Next coordinate to attack, or null if every cell has been tried.
+     */
+    AIPlayer.Coord nextAttack();
+
+    /**
+     * Feed back the resolved outcome of an attack previously returned by {@link #nextAttack()}.
+     */
+    void onResult(int x, int y, AttackResult result);
+
+    @FunctionalInterface
+    interface Factory {
+        TargetingStrategy create(int rows, int cols, RandomGenerator rnd);
+    }
+}
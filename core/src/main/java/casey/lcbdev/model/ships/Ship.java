@@ -2,15 +2,16 @@ package casey.lcbdev.model.ships;
 
 import casey.lcbdev.model.board.ShipCell;
 
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 public class Ship {
     private final String name;
     private final int length;
     private ShipCell[] cellsOccupied;
-    private boolean isSunk;
     private boolean[] hits;
+    private int remainingHits;
+    private Runnable sunkListener;
 
     public Ship(String name, int length, ShipCell[] cellsOccupied) {
         this.name=Objects.requireNonNullElse(name, "Generic Ship");
@@ -22,7 +23,7 @@ public class Ship {
         }
         this.cellsOccupied=cellsOccupied;
         this.hits = new boolean[length];
-        this.isSunk=false;
+        this.remainingHits = length;
 
         if(cellsOccupied != null) {
             linkCellsToThisShip();
@@ -36,6 +37,7 @@ public class Ship {
 
         this.cellsOccupied = cells;
         this.hits = new boolean[length];
+        this.remainingHits = length;
         linkCellsToThisShip(); 
     }
 
@@ -43,27 +45,57 @@ public class Ship {
         for (int i = 0; i < cellsOccupied.length; i++) {
             ShipCell c = cellsOccupied[i];
             if (c != null) {
-                c.setOccupant(this);
+                c.setOccupant(this, i);
             }
         }
     }
 
     public boolean markHit(ShipCell cell) {
-        if(cellsOccupied == null) return false;
-        for(int i=0;i<cellsOccupied.length;i++) {
-            if(cellsOccupied[i] == cell) {
-                hits[i] = true;
-                cell.setHit(true);
-                return true;
+        if(cellsOccupied == null || cell == null) return false;
+        int segment = cell.getSegment();
+        if(segment < 0 || segment >= length || !cell.equals(cellsOccupied[segment])) return false;
+        return markHit(segment);
+    }
+
+    /**
+     * Mark a segment as hit by its offset along the ship.
+     * @param segment Index into the occupied cells
+     * @return true if the segment exists.
+     */
+    public boolean markHit(int segment) {
+        if(cellsOccupied == null || segment < 0 || segment >= length) return false;
+        if(!hits[segment]) {
+            hits[segment] = true;
+            if(--remainingHits == 0 && sunkListener != null) {
+                sunkListener.run();
             }
         }
-        return false;
+        cellsOccupied[segment].setHit(true);
+        return true;
+    }
+
+    /**
+     * Repair every segment. Does not fire the sunk listener.
+     */
+    public void clearHits() {
+        if(cellsOccupied == null) return;
+        Arrays.fill(hits, false);
+        remainingHits = length;
+        for(ShipCell c : cellsOccupied) c.setHit(false);
     }
 
     public boolean isSunk() {
-        if (cellsOccupied == null) return false;
-        this.isSunk = IntStream.range(0, hits.length).allMatch(i -> hits[i]);
-        return isSunk;
+        return cellsOccupied != null && remainingHits == 0;
+    }
+
+    public int getRemainingHits() { return remainingHits; }
+
+    /**
+     * Register a callback fired once, on the hit that sinks this ship.
+     * @param listener Callback, or null to clear.
+     */
+    public void setSunkListener(Runnable listener) {
+        this.sunkListener = listener;
     }
 
     public ShipCell[] getCellsOccupied() { return cellsOccupied; }
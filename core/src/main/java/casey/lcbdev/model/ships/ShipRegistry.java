@@ -0,0 +1,70 @@
+package casey.lcbdev.model.ships;
+
+import casey.lcbdev.model.board.ShipCell;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class ShipRegistry {
+    public static final Map<String, Integer> SHIP_LENGTH_BY_KEY;
+    // Numeric ship ids follow registry order
+    private static final String[] KEYS_BY_ID;
+    static {
+        Map<String,Integer> m = new LinkedHashMap<>();
+        m.put("carrier", 5);
+        m.put("battleship", 4);
+        m.put("destroyer", 3);
+        m.put("submarine", 3);
+        m.put("patrolboat", 2);
+        SHIP_LENGTH_BY_KEY = Collections.unmodifiableMap(m);
+        KEYS_BY_ID = m.keySet().toArray(new String[0]);
+    }
+
+    private ShipRegistry() {}
+
+    public static boolean isValidKey(String key) {
+        return SHIP_LENGTH_BY_KEY.containsKey(key);
+    }
+
+    public static int lengthFor(String key) {
+        return SHIP_LENGTH_BY_KEY.getOrDefault(key, -1);
+    }
+
+    /**
+     * @return Numeric id for a ship key, or -1 if the key is unknown.
+     */
+    public static int idFor(String key) {
+        for (int i = 0; i < KEYS_BY_ID.length; i++) {
+            if (KEYS_BY_ID[i].equals(key)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Ship key for a numeric id, or null if out of range.
+     */
+    public static String keyFor(int id) {
+        if (id < 0 || id >= KEYS_BY_ID.length) return null;
+        return KEYS_BY_ID[id];
+    }
+
+    public static int count() {
+        return KEYS_BY_ID.length;
+    }
+
+    /**
+     * Build the ship for a key on the given cells.
+     * @return The new ship, or null if the key is unknown.
+     */
+    public static Ship create(String key, ShipCell[] cells) {
+        if (key == null) return null;
+        return switch (key) {
+            case "carrier" -> new Carrier(cells);
+            case "battleship" -> new Battleship(cells);
+            case "destroyer" -> new Destroyer(cells);
+            case "submarine" -> new Submarine(cells);
+            case "patrolboat" -> new PatrolBoat(cells);
+            default -> null;
+        };
+    }
+}
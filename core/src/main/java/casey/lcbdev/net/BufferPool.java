@@ -0,0 +1,53 @@
+package casey.lcbdev.net;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of equally sized direct buffers, so encoding into socket-ready memory doesn't allocate
+ * per message. Thread-safe. When the pool is empty a new buffer is allocated; buffers released
+ * beyond the pool's capacity are left to the garbage collector.
+ */
+public final class BufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public BufferPool(int bufferSize, int maxPooled) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("Buffer size must be positive");
+        if (maxPooled < 0) throw new IllegalArgumentException("Pool capacity cannot be negative");
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * @return A cleared buffer of {@link #getBufferSize()} bytes, in write mode.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buf = free.poll();
+        if (buf == null) return ByteBuffer.allocateDirect(bufferSize);
+        pooled.decrementAndGet();
+        return buf.clear();
+    }
+
+    /**
+     * Return a buffer from {@link #acquire()}. The caller must not touch it afterwards.
+     */
+    public void release(ByteBuffer buf) {
+        if (buf == null || buf.capacity() != bufferSize || !buf.isDirect()) return;
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.add(buf);
+    }
+
+    public int getBufferSize() { return bufferSize; }
+
+    /**
+     * @return Buffers currently idle in the pool.
+     */
+    public int getPooledCount() { return pooled.get(); }
+}
@@ -0,0 +1,187 @@
+package casey.lcbdev.net;
+
+import casey.lcbdev.util.Logging;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking connection to a match server. All socket work happens on one daemon I/O thread,
+ * so callers (including the FX thread) never block on the network: {@link #send(ByteBuffer)} only
+ * queues the frame and wakes the selector.
+ */
+public class NetworkClient implements Closeable {
+    private static final Logger logger = Logging.getLogger(NetworkClient.class);
+
+    public interface Listener {
+        /**
+         * Called on the I/O thread for every complete frame.
+         * @param payload Positioned just after the type byte and limited to the frame. Only valid during the call.
+         */
+        void onFrame(byte type, ByteBuffer payload);
+
+        /**
+         * Called on the I/O thread once the connection is gone.
+         * @param cause The failure, or null after {@link #close()}.
+         */
+        void onDisconnected(IOException cause);
+    }
+
+    private final Listener listener;
+    private final Selector selector;
+    private final SocketChannel channel;
+    private final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuf = ByteBuffer.allocateDirect(Protocol.MAX_FRAME);
+    private final BufferPool frames = new BufferPool(Protocol.MAX_FRAME, 16);
+    private final Thread ioThread;
+    private ByteBuffer writing;
+    private volatile boolean closed = false;
+
+    private NetworkClient(InetSocketAddress server, Listener listener) throws IOException {
+        this.listener = Objects.requireNonNull(listener, "Listener cannot be null");
+        this.selector = Selector.open();
+        this.channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            int ops = channel.connect(server) ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT;
+            channel.register(selector, ops);
+        } catch (IOException e) {
+            channel.close();
+            selector.close();
+            throw e;
+        }
+        this.ioThread = new Thread(this::runLoop, "netships-client-io");
+        ioThread.setDaemon(true);
+    }
+
+    /**
+     * Start connecting. Returns immediately; failures to connect are reported through
+     * {@link Listener#onDisconnected(IOException)}.
+     */
+    public static NetworkClient connect(InetSocketAddress server, Listener listener) throws IOException {
+        NetworkClient client = new NetworkClient(server, listener);
+        client.ioThread.start();
+        return client;
+    }
+
+    /**
+     * @return An empty pooled buffer to write one outgoing frame into. Safe to call from any thread.
+     */
+    public ByteBuffer newFrame() {
+        return frames.acquire();
+    }
+
+    /**
+     * Queue a complete frame for sending. Safe to call from any thread.
+     * @param frame Frame in read mode, normally from {@link #newFrame()}. Ownership passes to the
+     *              client, which returns it to the pool once written.
+     */
+    public void send(ByteBuffer frame) {
+        if (closed) return;
+        outbox.add(frame);
+        selector.wakeup();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        selector.wakeup();
+    }
+
+    private void runLoop() {
+        IOException failure = null;
+        try {
+            SelectionKey key = channel.keyFor(selector);
+            while (!closed) {
+                selector.select();
+                if (closed) break;
+
+                // Ready ops are stale when the select was only a wakeup from send()
+                boolean ready = selector.selectedKeys().remove(key);
+                if (ready && key.isConnectable() && channel.finishConnect()) {
+                    logger.fine("Connected to " + channel.getRemoteAddress());
+                }
+                if (ready && key.isReadable() && !readFrames()) {
+                    failure = new IOException("Server closed the connection");
+                    break;
+                }
+                if (channel.isConnected()) {
+                    boolean pending = flush();
+                    key.interestOps(SelectionKey.OP_READ | (pending ? SelectionKey.OP_WRITE : 0));
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (ClosedSelectorException e) {
+            // closed underneath us
+        } finally {
+            closed = true;
+            try { channel.close(); } catch (IOException ignored) {}
+            try { selector.close(); } catch (IOException ignored) {}
+        }
+        if (failure != null) logger.log(Level.WARNING, "Connection lost", failure);
+        listener.onDisconnected(failure);
+    }
+
+    /**
+     * @return false once the server has closed its end.
+     */
+    private boolean readFrames() throws IOException {
+        int n = channel.read(readBuf);
+        if (n < 0) return false;
+
+        readBuf.flip();
+        int available = readBuf.limit();
+        int total;
+        while ((total = Protocol.frameLength(readBuf)) > 0) {
+            int start = readBuf.position();
+            int end = start + total;
+            byte type = readBuf.get(start + Protocol.LENGTH_BYTES);
+
+            // Hand out the payload in place rather than copying it
+            readBuf.limit(end).position(start + Protocol.LENGTH_BYTES + 1);
+            try {
+                listener.onFrame(type, readBuf);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Frame listener failed on type " + type, e);
+            }
+            readBuf.limit(available).position(end);
+        }
+        readBuf.compact();
+        return true;
+    }
+
+    /**
+     * Write queued frames until the socket would block.
+     * @return true if bytes are still waiting to be written.
+     */
+    private boolean flush() throws IOException {
+        while (true) {
+            if (writing == null) {
+                writing = outbox.poll();
+                if (writing == null) return false;
+            }
+            channel.write(writing);
+            if (writing.hasRemaining()) return true;
+            frames.release(writing);
+            writing = null;
+        }
+    }
+}
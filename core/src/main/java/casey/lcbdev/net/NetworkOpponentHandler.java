@@ -0,0 +1,193 @@
+package casey.lcbdev.net;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.util.Logging;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * OpponentHandler for a remote human playing through a match server.
+ * <p>
+ * Fleets never leave their owner. Each shot is sent to the defender, who resolves it against its
+ * own fleet and answers with the result, which the attacker's {@link GameManager} then applies.
+ * Network events are handed to the game through the supplied executor (e.g. {@code Platform::runLater}),
+ * which must run tasks in order on one thread.
+ */
+public class NetworkOpponentHandler implements GameManager.RemoteResolvingOpponent, NetworkClient.Listener {
+    private static final Logger logger = Logging.getLogger(NetworkOpponentHandler.class);
+
+    public interface MatchListener {
+        /**
+         * A peer was found and play can begin. The peer's fleet stays with them, so the
+         * {@link GameManager} for the match takes an empty {@link Player} as the opponent, and
+         * its salvo size must be set to {@link #getSalvoSize()}, which the peer agreed to.
+         */
+        void onMatchReady(boolean localStarts);
+
+        void onOpponentLeft();
+    }
+
+    private final Player localPlayer;
+    private final int rows;
+    private final int cols;
+    private final int salvoSize;
+    private final Executor gameThread;
+    private final MatchListener matchListener;
+
+    // Game thread only
+    private final ArrayDeque<int[]> queuedAttacks = new ArrayDeque<>();
+    private GameManager.OpponentMoveCallback pendingCallback;
+    private GameManager.ShotResultCallback resultCallback;
+
+    private volatile NetworkClient client;
+
+    public NetworkOpponentHandler(Player localPlayer, int rows, int cols, Executor gameThread, MatchListener matchListener) {
+        this(localPlayer, rows, cols, 1, gameThread, matchListener);
+    }
+
+    /**
+     * @param salvoSize Shots per turn, 1 for the classic game
+     */
+    public NetworkOpponentHandler(Player localPlayer, int rows, int cols, int salvoSize,
+                                  Executor gameThread, MatchListener matchListener) {
+        if (salvoSize < 1 || salvoSize > Protocol.MAX_SALVO) {
+            throw new IllegalArgumentException("Salvo size must be between 1 and " + Protocol.MAX_SALVO);
+        }
+        this.localPlayer = Objects.requireNonNull(localPlayer, "Local player cannot be null");
+        this.gameThread = Objects.requireNonNull(gameThread, "Game executor cannot be null");
+        this.matchListener = Objects.requireNonNull(matchListener, "Match listener cannot be null");
+        this.rows = rows;
+        this.cols = cols;
+        this.salvoSize = salvoSize;
+    }
+
+    public int getSalvoSize() {
+        return salvoSize;
+    }
+
+    /**
+     * Connect and join the server's queue for this board and salvo size. Returns without waiting for the connection.
+     * The local fleet must be fully placed by now.
+     */
+    public void connect(InetSocketAddress server) throws IOException {
+        if (client != null) throw new IllegalStateException("Already connected");
+        if (!localPlayer.allPlaced()) throw new IllegalStateException("Place all ships before connecting");
+        client = NetworkClient.connect(server, this);
+        ByteBuffer out = client.newFrame();
+        Protocol.writeHello(out, rows, cols, salvoSize);
+        client.send(out.flip());
+    }
+
+    public void disconnect() {
+        if (client != null) client.close();
+    }
+
+    // ========== OpponentHandler (game thread) ==========
+
+    @Override
+    public void executeOpponentTurn(GameManager.OpponentMoveCallback callback) {
+        pendingCallback = callback;
+        deliverQueuedAttack();
+    }
+
+    @Override
+    public boolean shouldAutoExecuteTurn() {
+        return true; // moves arrive by themselves
+    }
+
+    @Override
+    public void requestResolution(int[] coords, GameManager.ShotResultCallback callback) {
+        resultCallback = callback;
+        ByteBuffer out = client.newFrame();
+        if (coords.length == 2) Protocol.writeAttack(out, coords[0], coords[1]);
+        else Protocol.writeSalvo(out, coords, coords.length / 2);
+        client.send(out.flip());
+    }
+
+    // Every requested shot is answered, even a repeat, so the attacker is never left waiting
+    @Override
+    public void onAttackResolved(int x, int y, AttackResult result) {
+        ByteBuffer out = client.newFrame();
+        Protocol.writeResult(out, x, y, result);
+        client.send(out.flip());
+    }
+
+    private void deliverQueuedAttack() {
+        if (pendingCallback == null || queuedAttacks.isEmpty()) return;
+        int[] coords = queuedAttacks.poll();
+        GameManager.OpponentMoveCallback callback = pendingCallback;
+        pendingCallback = null;
+        // Peers were paired on the same salvo size; a salvo the game doesn't allow is still
+        // passed on whole, so every shot in it is answered
+        if (coords.length == 2) {
+            callback.reportAttack(coords[0], coords[1]);
+        } else {
+            callback.reportSalvo(coords);
+        }
+    }
+
+    private void applyResult(int x, int y, AttackResult result) {
+        if (resultCallback == null) {
+            logger.warning("Peer sent a result for " + x + "," + y + " without being attacked");
+            return;
+        }
+        resultCallback.reportResult(x, y, result);
+    }
+
+    // ========== NetworkClient.Listener (I/O thread) ==========
+
+    @Override
+    public void onFrame(byte type, ByteBuffer payload) {
+        try {
+            switch (type) {
+                case Protocol.MATCHED -> {
+                    boolean starts = payload.get() != 0;
+                    gameThread.execute(() -> matchListener.onMatchReady(starts));
+                }
+                case Protocol.ATTACK -> {
+                    int x = WireCodec.getVarint(payload);
+                    int y = WireCodec.getVarint(payload);
+                    gameThread.execute(() -> {
+                        queuedAttacks.add(new int[] { x, y });
+                        deliverQueuedAttack();
+                    });
+                }
+                case Protocol.SALVO -> {
+                    int[] coords = Protocol.readSalvo(payload);
+                    gameThread.execute(() -> {
+                        queuedAttacks.add(coords);
+                        deliverQueuedAttack();
+                    });
+                }
+                case Protocol.RESULT -> {
+                    int x = WireCodec.getVarint(payload);
+                    int y = WireCodec.getVarint(payload);
+                    AttackResult result = WireCodec.getResult(payload);
+                    gameThread.execute(() -> applyResult(x, y, result));
+                }
+                case Protocol.PEER_LEFT -> {
+                    logger.info("Opponent left the match");
+                    gameThread.execute(matchListener::onOpponentLeft);
+                }
+                default -> logger.warning("Ignoring unknown frame type " + type);
+            }
+        } catch (ProtocolException e) {
+            logger.log(Level.WARNING, "Dropping connection after bad frame", e);
+            client.close();
+        }
+    }
+
+    @Override
+    public void onDisconnected(IOException cause) {
+        if (cause != null) gameThread.execute(matchListener::onOpponentLeft);
+    }
+}
@@ -0,0 +1,133 @@
+package casey.lcbdev.net;
+
+import casey.lcbdev.model.game.AttackResult;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Framing shared by {@link NetworkClient} and the match server.
+ * <p>
+ * Every frame is {@code [u16 length][u8 type][payload]}, where length counts the type byte and the
+ * payload. Payloads use {@link WireCodec}. Frames are small enough that a connection never needs
+ * more than {@link #MAX_FRAME} bytes buffered.
+ */
+public final class Protocol {
+    public static final byte VERSION = WireCodec.VERSION;
+    public static final int DEFAULT_PORT = 7777;
+
+    public static final int LENGTH_BYTES = 2;
+    public static final int MAX_FRAME = 1024;
+    // Largest rows or cols a HELLO may ask for
+    public static final int MAX_BOARD_SIDE = 1000;
+    // Largest salvo a HELLO may ask for: within MAX_BOARD_SIDE a shot takes at most four bytes,
+    // so this many fit in one SALVO frame after its header and two-byte count
+    public static final int MAX_SALVO = (MAX_FRAME - LENGTH_BYTES - 1 - 2) / 4;
+
+    // Client to server: u8 version, varint rows, varint cols, varint shots per turn
+    public static final byte HELLO = 1;
+    // Server to client: u8 1 if the receiver moves first
+    public static final byte MATCHED = 2;
+    // Server to client: the paired peer disconnected
+    public static final byte PEER_LEFT = 3;
+    // Type 4 carried whole fleets between peers; fleets now stay with their owner
+    // Relayed between peers: coordinate
+    public static final byte ATTACK = 5;
+    // Relayed between peers: coordinate, result byte, the defender's answer to each shot
+    public static final byte RESULT = 6;
+    // Relayed between peers: varint shot count, then that many coordinates
+    public static final byte SALVO = 7;
+
+    private Protocol() {}
+
+    /**
+     * Check whether a whole frame is buffered, without moving the buffer position.
+     * @param in Buffer in read mode, positioned at the start of a frame
+     * @return Total frame length including the length prefix, or -1 if more bytes are needed.
+     * @throws ProtocolException If the length prefix is empty or larger than {@link #MAX_FRAME}.
+     */
+    public static int frameLength(ByteBuffer in) throws ProtocolException {
+        if (in.remaining() < LENGTH_BYTES) return -1;
+        int len = in.getShort(in.position()) & 0xFFFF;
+        if (len == 0 || len + LENGTH_BYTES > MAX_FRAME) {
+            throw new ProtocolException("Bad frame length " + len);
+        }
+        int total = len + LENGTH_BYTES;
+        return in.remaining() >= total ? total : -1;
+    }
+
+    /**
+     * Reserve the length prefix and write the frame type.
+     * @return Frame start, to be passed to {@link #endFrame(ByteBuffer, int)} once the payload is written.
+     */
+    public static int beginFrame(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putShort((short) 0);
+        out.put(type);
+        return start;
+    }
+
+    public static void endFrame(ByteBuffer out, int start) {
+        out.putShort(start, (short) (out.position() - start - LENGTH_BYTES));
+    }
+
+    /**
+     * @param salvoSize Shots per turn, 1 for the classic game. Only clients agreeing on it are paired.
+     */
+    public static void writeHello(ByteBuffer out, int rows, int cols, int salvoSize) {
+        int start = beginFrame(out, HELLO);
+        out.put(VERSION);
+        WireCodec.putVarint(out, rows);
+        WireCodec.putVarint(out, cols);
+        WireCodec.putVarint(out, salvoSize);
+        endFrame(out, start);
+    }
+
+    public static void writeMatched(ByteBuffer out, boolean youStart) {
+        int start = beginFrame(out, MATCHED);
+        out.put((byte) (youStart ? 1 : 0));
+        endFrame(out, start);
+    }
+
+    public static void writePeerLeft(ByteBuffer out) {
+        endFrame(out, beginFrame(out, PEER_LEFT));
+    }
+
+    public static void writeAttack(ByteBuffer out, int x, int y) {
+        int start = beginFrame(out, ATTACK);
+        WireCodec.putCoord(out, x, y);
+        endFrame(out, start);
+    }
+
+    public static void writeResult(ByteBuffer out, int x, int y, AttackResult result) {
+        int start = beginFrame(out, RESULT);
+        WireCodec.putCoord(out, x, y);
+        WireCodec.putResult(out, result);
+        endFrame(out, start);
+    }
+
+    /**
+     * @param coords Shots as x,y pairs within {@link #MAX_BOARD_SIDE}; the first {@code shots} pairs are written
+     * @throws IllegalArgumentException If there are more than {@link #MAX_SALVO} shots, which wouldn't fit in a frame.
+     */
+    public static void writeSalvo(ByteBuffer out, int[] coords, int shots) {
+        if (shots < 1 || shots > MAX_SALVO) throw new IllegalArgumentException("Salvo size must be between 1 and " + MAX_SALVO);
+        int start = beginFrame(out, SALVO);
+        WireCodec.putVarint(out, shots);
+        for (int i = 0; i < shots; i++) WireCodec.putCoord(out, coords[2 * i], coords[2 * i + 1]);
+        endFrame(out, start);
+    }
+
+    /**
+     * Decode a {@link #SALVO} payload.
+     * @return Shots as x,y pairs
+     * @throws ProtocolException If the count doesn't fit in the frame.
+     */
+    public static int[] readSalvo(ByteBuffer in) throws ProtocolException {
+        int shots = WireCodec.getVarint(in);
+        // Every coordinate takes at least two bytes; divided rather than multiplied so a huge count can't overflow
+        if (shots <= 0 || shots > MAX_SALVO || shots > in.remaining() / 2) throw new ProtocolException("Bad salvo size " + shots);
+        int[] coords = new int[shots * 2];
+        for (int i = 0; i < coords.length; i++) coords[i] = WireCodec.getVarint(in);
+        return coords;
+    }
+}
@@ -0,0 +1,331 @@
+package casey.lcbdev.net;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.ShotBoard;
+import casey.lcbdev.model.game.ShotView;
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.ShipRegistry;
+import java.net.ProtocolException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Binary encoding of game values, shared by network frames, replays and saves.
+ * <p>
+ * Integers are unsigned LEB128 varints, so coordinates on ordinary boards take one byte each.
+ * An attack result packs its type and ship id into one byte. Shot snapshots are whichever is
+ * smallest of a bitboard, a delta-coded index list (sparse boards) or alternating run lengths
+ * (boards swept in rows or blocks). Everything reads and writes the caller's buffer
+ * directly, and decoded results are shared instances, so the hot paths allocate nothing.
+ * <p>
+ * Containers (frames, journals, save files) record {@link #VERSION} once in their own header.
+ */
+public final class WireCodec {
+    public static final byte VERSION = 3;
+
+    /** Upper bound on a varint-encoded int. */
+    public static final int MAX_VARINT_BYTES = 5;
+
+    private static final AttackResult.Type[] TYPES = AttackResult.Type.values();
+    private static final int TYPE_BITS = 3;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    // Result byte is type in the low bits, (ship id + 1) above it, 0 meaning no ship
+    private static final AttackResult[] RESULTS = new AttackResult[1 << 8];
+
+    private static final byte SHOTS_DENSE = 0;
+    private static final byte SHOTS_SPARSE = 1;
+    private static final byte SHOTS_RUNS = 2;
+
+    static {
+        for (AttackResult.Type t : TYPES) {
+            RESULTS[t.ordinal()] = new AttackResult(t, null);
+            for (int id = 0; id < ShipRegistry.count(); id++) {
+                RESULTS[t.ordinal() | ((id + 1) << TYPE_BITS)] = new AttackResult(t, ShipRegistry.keyFor(id));
+            }
+        }
+    }
+
+    private WireCodec() {}
+
+    // ========== Varints ==========
+
+    public static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * @throws ProtocolException If the varint runs past {@link #MAX_VARINT_BYTES} or the buffer.
+     */
+    public static int getVarint(ByteBuffer in) throws ProtocolException {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+            if (!in.hasRemaining()) throw new ProtocolException("Truncated varint");
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new ProtocolException("Varint too long");
+    }
+
+    public static int varintSize(int value) {
+        int bits = 32 - Integer.numberOfLeadingZeros(value | 1);
+        return (bits + 6) / 7;
+    }
+
+    // ========== Attacks and results ==========
+
+    public static void putCoord(ByteBuffer out, int x, int y) {
+        putVarint(out, x);
+        putVarint(out, y);
+    }
+
+    /**
+     * @return The result packed into one byte: type in the low three bits, ship id + 1 above.
+     */
+    public static byte encodeResult(AttackResult result) {
+        int id = ShipRegistry.idFor(result.shipKey);
+        return (byte) (result.type.ordinal() | ((id + 1) << TYPE_BITS));
+    }
+
+    /**
+     * @return A shared, immutable result for a byte from {@link #encodeResult(AttackResult)}.
+     * @throws ProtocolException If the type or ship id is unknown.
+     */
+    public static AttackResult decodeResult(byte code) throws ProtocolException {
+        AttackResult r = RESULTS[code & 0xFF];
+        if (r == null) throw new ProtocolException("Unknown result code " + (code & 0xFF));
+        return r;
+    }
+
+    public static void putResult(ByteBuffer out, AttackResult result) {
+        out.put(encodeResult(result));
+    }
+
+    public static AttackResult getResult(ByteBuffer in) throws ProtocolException {
+        return decodeResult(in.get());
+    }
+
+    public static int resultType(byte code) {
+        return code & TYPE_MASK;
+    }
+
+    /**
+     * @return Ship id carried by a result byte, or -1 if none.
+     */
+    public static int resultShip(byte code) {
+        return ((code & 0xFF) >>> TYPE_BITS) - 1;
+    }
+
+    // ========== Fleets ==========
+
+    /**
+     * Upper bound on the bytes {@link #putFleet(ByteBuffer, Player)} writes for a player.
+     */
+    public static int fleetSize(Player player) {
+        return MAX_VARINT_BYTES + player.getPlacedShips().size() * (2 + 2 * MAX_VARINT_BYTES);
+    }
+
+    /**
+     * Write every placed ship as its id, bow coordinate and orientation.
+     */
+    public static void putFleet(ByteBuffer out, Player player) {
+        Map<String, Ship> ships = player.getPlacedShips();
+        putVarint(out, ships.size());
+        for (Map.Entry<String, Ship> e : ships.entrySet()) {
+            ShipCell[] cells = e.getValue().getCellsOccupied();
+            boolean vertical = cells.length > 1 && cells[1].getX() == cells[0].getX();
+            out.put((byte) ShipRegistry.idFor(e.getKey()));
+            putCoord(out, cells[0].getX(), cells[0].getY());
+            out.put((byte) (vertical ? 1 : 0));
+        }
+    }
+
+    /**
+     * Rebuild a fleet written by {@link #putFleet(ByteBuffer, Player)}.
+     * @throws ProtocolException If a ship id is unknown or a ship can't be placed on the board.
+     */
+    public static Player getFleet(ByteBuffer in, int rows, int cols) throws ProtocolException {
+        try {
+            Player player = new Player(rows, cols);
+            int count = getVarint(in);
+            for (int i = 0; i < count; i++) {
+                int id = in.get() & 0xFF;
+                int x = getVarint(in);
+                int y = getVarint(in);
+                boolean vertical = in.get() != 0;
+
+                String key = ShipRegistry.keyFor(id);
+                if (key == null) throw new ProtocolException("Unknown ship id " + id);
+                int len = ShipRegistry.lengthFor(key);
+                ShipCell[] cells = new ShipCell[len];
+                for (int s = 0; s < len; s++) {
+                    cells[s] = vertical ? new ShipCell(x, y + s) : new ShipCell(x + s, y);
+                }
+                if (!player.addShip(key, ShipRegistry.create(key, cells))) {
+                    throw new ProtocolException("Illegal placement of " + key + " at " + x + "," + y);
+                }
+            }
+            return player;
+        } catch (BufferUnderflowException e) {
+            throw new ProtocolException("Truncated fleet");
+        }
+    }
+
+    // ========== Shot snapshots ==========
+
+    /**
+     * Upper bound on the bytes {@link #putShots(ByteBuffer, ShotView)} writes for a view.
+     */
+    public static int shotsSize(ShotView shots) {
+        int cells = shots.getRows() * shots.getCols();
+        return (int) (1 + 3 * MAX_VARINT_BYTES + Math.min(denseSize(cells), sparseBound(cells, shots.getShotCount())));
+    }
+
+    /**
+     * Write board size and every shot, picking whichever of bitboard, index list or run lengths
+     * is smallest.
+     */
+    public static void putShots(ByteBuffer out, ShotView shots) {
+        int rows = shots.getRows();
+        int cols = shots.getCols();
+        int cells = rows * cols;
+        int count = shots.getShotCount();
+        putVarint(out, rows);
+        putVarint(out, cols);
+
+        // Size the index list and the run list exactly in one pass; the bitboard size is fixed
+        long sparse = varintSize(count);
+        long runs = 0;
+        int pairs = 0;
+        int runLength = 0;
+        int prev = -1;
+        for (int i = shots.nextShot(0); i >= 0; i = shots.nextShot(i + 1)) {
+            sparse += varintSize(i - prev - 1);
+            if (i == prev + 1 && runLength > 0) {
+                runLength++;
+            } else {
+                if (runLength > 0) runs += varintSize(runLength);
+                runs += varintSize(i - prev - 1);
+                runLength = 1;
+                pairs++;
+            }
+            prev = i;
+        }
+        if (runLength > 0) runs += varintSize(runLength);
+        runs += varintSize(pairs);
+        long dense = denseSize(cells);
+
+        if (runs < sparse && runs < dense) {
+            out.put(SHOTS_RUNS);
+            putVarint(out, pairs);
+            // Alternating clear and shot run lengths; cells past the last run are clear
+            prev = -1;
+            runLength = 0;
+            for (int i = shots.nextShot(0); i >= 0; i = shots.nextShot(i + 1)) {
+                if (i == prev + 1 && runLength > 0) {
+                    runLength++;
+                } else {
+                    if (runLength > 0) putVarint(out, runLength);
+                    putVarint(out, i - prev - 1);
+                    runLength = 1;
+                }
+                prev = i;
+            }
+            if (runLength > 0) putVarint(out, runLength);
+            return;
+        }
+
+        if (sparse < dense) {
+            out.put(SHOTS_SPARSE);
+            putVarint(out, count);
+            prev = -1;
+            for (int i = shots.nextShot(0); i >= 0; i = shots.nextShot(i + 1)) {
+                putVarint(out, i - prev - 1);
+                prev = i;
+            }
+            return;
+        }
+
+        out.put(SHOTS_DENSE);
+        long word = 0;
+        int wordIndex = 0;
+        for (int i = shots.nextShot(0); i >= 0; i = shots.nextShot(i + 1)) {
+            while ((i >>> 6) != wordIndex) {
+                out.putLong(word);
+                word = 0;
+                wordIndex++;
+            }
+            word |= 1L << i;
+        }
+        int words = (cells + 63) >>> 6;
+        for (; wordIndex < words; wordIndex++) {
+            out.putLong(word);
+            word = 0;
+        }
+    }
+
+    /**
+     * Replay a snapshot onto a board, which must be the same size and is expected to be empty.
+     * @throws ProtocolException If the sizes differ or the snapshot is malformed.
+     */
+    public static void getShots(ByteBuffer in, ShotBoard into) throws ProtocolException {
+        int rows = getVarint(in);
+        int cols = getVarint(in);
+        if (rows != into.getRows() || cols != into.getCols()) {
+            throw new ProtocolException("Snapshot is " + cols + "x" + rows + ", board is " + into.getCols() + "x" + into.getRows());
+        }
+        int cells = rows * cols;
+        try {
+            byte kind = in.get();
+            if (kind == SHOTS_RUNS) {
+                int pairs = getVarint(in);
+                long i = 0;
+                for (int n = 0; n < pairs; n++) {
+                    long clear = getVarint(in) & 0xFFFFFFFFL;
+                    long run = getVarint(in) & 0xFFFFFFFFL;
+                    if (run == 0 || i + clear + run > cells) throw new ProtocolException("Shot run out of range at " + i);
+                    i += clear;
+                    for (long end = i + run; i < end; i++) into.mark((int) (i % cols), (int) (i / cols));
+                }
+            } else if (kind == SHOTS_SPARSE) {
+                int count = getVarint(in);
+                int i = -1;
+                for (int n = 0; n < count; n++) {
+                    i += getVarint(in) + 1;
+                    if (i < 0 || i >= cells) throw new ProtocolException("Shot index out of range " + i);
+                    into.mark(i % cols, i / cols);
+                }
+            } else if (kind == SHOTS_DENSE) {
+                int words = (cells + 63) >>> 6;
+                for (int w = 0; w < words; w++) {
+                    long word = in.getLong();
+                    while (word != 0) {
+                        int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                        if (i >= cells) throw new ProtocolException("Shot index out of range " + i);
+                        into.mark(i % cols, i / cols);
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                throw new ProtocolException("Unknown snapshot kind " + kind);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new ProtocolException("Truncated snapshot");
+        }
+    }
+
+    private static long denseSize(int cells) {
+        return (long) ((cells + 63) >>> 6) * Long.BYTES;
+    }
+
+    private static long sparseBound(int cells, int count) {
+        return MAX_VARINT_BYTES + (long) count * varintSize(cells);
+    }
+}
@@ -0,0 +1,275 @@
+package casey.lcbdev.persist;
+
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.ShotBoard;
+import casey.lcbdev.net.WireCodec;
+import casey.lcbdev.util.Logging;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * Snapshot of a game in progress, and its binary save file.
+ * <p>
+ * A save is a header (magic, codec version, board size, side to move, salvo size), both fleets,
+ * then the shots fired at each side as {@link WireCodec} snapshots, which pick a bitboard, index
+ * list or run lengths, whichever is smallest. Ship damage isn't stored since it follows from the
+ * fleets and the shots. A 10x10 game fits in about a hundred bytes.
+ * <p>
+ * {@link #save(GameManager, Path)} only copies state on the calling thread; encoding and writing
+ * happen in the background through an {@link AsynchronousFileChannel}. The file is written beside
+ * the target and moved over it, so a crash mid-save leaves the previous save intact.
+ */
+public final class GameSave {
+    private static final Logger logger = Logging.getLogger(GameSave.class);
+
+    public static final String SUFFIX = ".nssave";
+
+    private static final int MAGIC = 0x4E535356; // "NSSV"
+    // Far beyond any real board; stops a corrupt file from sizing a huge read
+    private static final long MAX_FILE = 64L * 1024 * 1024;
+
+    private final int rows;
+    private final int cols;
+    private final boolean opponentToMove;
+    private final int salvoSize;
+    private final Player local;
+    private final Player opponent;
+    private final ShotBoard atLocal;
+    private final ShotBoard atOpponent;
+
+    private GameSave(int rows, int cols, boolean opponentToMove, int salvoSize,
+                     Player local, Player opponent, ShotBoard atLocal, ShotBoard atOpponent) {
+        this.rows = rows;
+        this.cols = cols;
+        this.opponentToMove = opponentToMove;
+        this.salvoSize = salvoSize;
+        this.local = local;
+        this.opponent = opponent;
+        this.atLocal = atLocal;
+        this.atOpponent = atOpponent;
+    }
+
+    /**
+     * Copy a game's state. Call on the thread that drives the game; the copy is independent of it.
+     * @throws IllegalStateException If the opponent resolves attacks, e.g. a network game. Their
+     *                               fleet isn't known here, so damage to it couldn't be rebuilt.
+     */
+    public static GameSave capture(GameManager game) {
+        if (game.resolvesRemotely()) throw new IllegalStateException("Cannot save a game against an opponent who resolves attacks");
+        MatchController match = game.getMatchController();
+        int rows = match.getRows();
+        int cols = match.getCols();
+        ShotBoard atLocal = new ShotBoard(rows, cols);
+        ShotBoard atOpponent = new ShotBoard(rows, cols);
+        match.copyShots(atLocal, atOpponent);
+        return new GameSave(rows, cols, !game.isLocalPlayerTurn(), game.getSalvoSize(),
+            copyFleet(game.getLocalPlayer(), rows, cols), copyFleet(game.getOpponentPlayer(), rows, cols),
+            atLocal, atOpponent);
+    }
+
+    private static Player copyFleet(Player player, int rows, int cols) {
+        ByteBuffer buf = ByteBuffer.allocate(WireCodec.fleetSize(player));
+        WireCodec.putFleet(buf, player);
+        buf.flip();
+        try {
+            return WireCodec.getFleet(buf, rows, cols);
+        } catch (ProtocolException e) {
+            // The fleet was placed on this board, so it always decodes
+            throw new IllegalStateException("Fleet does not round-trip", e);
+        }
+    }
+
+    /**
+     * Build a game from this snapshot. Set its board updater and call {@link GameManager#start()},
+     * as for a new game, so the opponent moves if it is their turn. Each snapshot restores once,
+     * since the game takes ownership of its fleets.
+     * @param handler Opponent for the restored game
+     */
+    public GameManager restore(GameManager.OpponentHandler handler) {
+        GameManager game = new GameManager(local, opponent, handler, rows, cols, !opponentToMove);
+        game.setSalvoSize(salvoSize);
+        game.getMatchController().restore(atLocal, atOpponent, opponentToMove ? opponent : local);
+        return game;
+    }
+
+    // ========== Encoding ==========
+
+    /**
+     * @return The save file contents, in read mode.
+     */
+    public ByteBuffer encode() {
+        int size = Integer.BYTES + 1 + 4 * WireCodec.MAX_VARINT_BYTES
+            + WireCodec.fleetSize(local) + WireCodec.fleetSize(opponent)
+            + WireCodec.shotsSize(atLocal) + WireCodec.shotsSize(atOpponent);
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC);
+        out.put(WireCodec.VERSION);
+        WireCodec.putVarint(out, rows);
+        WireCodec.putVarint(out, cols);
+        out.put((byte) (opponentToMove ? 1 : 0));
+        WireCodec.putVarint(out, salvoSize);
+        WireCodec.putFleet(out, local);
+        WireCodec.putFleet(out, opponent);
+        WireCodec.putShots(out, atLocal);
+        WireCodec.putShots(out, atOpponent);
+        return out.flip();
+    }
+
+    /**
+     * @throws ProtocolException If the buffer isn't a save file or is malformed.
+     */
+    public static GameSave decode(ByteBuffer in) throws ProtocolException {
+        try {
+            if (in.getInt() != MAGIC) throw new ProtocolException("Not a save file");
+            byte version = in.get();
+            if (version != WireCodec.VERSION) throw new ProtocolException("Unsupported save version " + version);
+            int rows = WireCodec.getVarint(in);
+            int cols = WireCodec.getVarint(in);
+            boolean opponentToMove = in.get() != 0;
+            int salvoSize = WireCodec.getVarint(in);
+            if (salvoSize < 1) throw new ProtocolException("Bad salvo size " + salvoSize);
+            Player local = WireCodec.getFleet(in, rows, cols);
+            Player opponent = WireCodec.getFleet(in, rows, cols);
+            ShotBoard atLocal = new ShotBoard(rows, cols);
+            ShotBoard atOpponent = new ShotBoard(rows, cols);
+            WireCodec.getShots(in, atLocal);
+            WireCodec.getShots(in, atOpponent);
+            return new GameSave(rows, cols, opponentToMove, salvoSize, local, opponent, atLocal, atOpponent);
+        } catch (BufferUnderflowException e) {
+            throw new ProtocolException("Truncated save");
+        } catch (IllegalArgumentException e) {
+            throw new ProtocolException("Bad board size in save");
+        }
+    }
+
+    // ========== Files ==========
+
+    /**
+     * Save a game without blocking the caller beyond the state copy.
+     * @throws IllegalStateException If the game can't be captured; see {@link #capture}.
+     * @return Completes once the file is on disk, or exceptionally if writing failed.
+     */
+    public static CompletableFuture<Void> save(GameManager game, Path file) {
+        GameSave state = capture(game);
+        return CompletableFuture.supplyAsync(state::encode).thenCompose(buf -> write(buf, file));
+    }
+
+    /**
+     * Read a save in the background. Restore it on the game thread with {@link #restore}.
+     * @return Completes with the snapshot, or exceptionally if the file is missing or malformed.
+     */
+    public static CompletableFuture<GameSave> load(Path file) {
+        CompletableFuture<GameSave> done = new CompletableFuture<>();
+        AsynchronousFileChannel channel;
+        ByteBuffer buf;
+        try {
+            channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > MAX_FILE) {
+                channel.close();
+                throw new IOException("Save file too large: " + file);
+            }
+            buf = ByteBuffer.allocate((int) size);
+        } catch (IOException e) {
+            done.completeExceptionally(e);
+            return done;
+        }
+
+        channel.read(buf, 0, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer n, Void unused) {
+                if (n >= 0 && buf.hasRemaining()) {
+                    channel.read(buf, buf.position(), null, this);
+                    return;
+                }
+                close(channel);
+                try {
+                    done.complete(decode(buf.flip()));
+                } catch (ProtocolException e) {
+                    done.completeExceptionally(new IOException("Corrupt save " + file + ": " + e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public void failed(Throwable t, Void unused) {
+                close(channel);
+                done.completeExceptionally(t);
+            }
+        });
+        return done;
+    }
+
+    private static CompletableFuture<Void> write(ByteBuffer buf, Path file) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Path target = file.toAbsolutePath();
+        Path temp;
+        AsynchronousFileChannel channel;
+        try {
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            channel = AsynchronousFileChannel.open(temp, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            done.completeExceptionally(e);
+            return done;
+        }
+
+        channel.write(buf, 0, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer n, Void unused) {
+                if (buf.hasRemaining()) {
+                    channel.write(buf, buf.position(), null, this);
+                    return;
+                }
+                try {
+                    channel.force(false);
+                    channel.close();
+                    try {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    done.complete(null);
+                } catch (IOException e) {
+                    failed(e, null);
+                }
+            }
+
+            @Override
+            public void failed(Throwable t, Void unused) {
+                close(channel);
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Nothing more to do; the original save is untouched either way
+                }
+                logger.warning("Saving " + file + " failed: " + t);
+                done.completeExceptionally(t);
+            }
+        });
+        return done;
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Closing a channel that's done with can't lose data
+        }
+    }
+
+    public int getRows() { return rows; }
+
+    public int getCols() { return cols; }
+}
@@ -0,0 +1,407 @@
+package casey.lcbdev.persist;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.net.WireCodec;
+import casey.lcbdev.replay.MoveLog;
+import casey.lcbdev.util.Logging;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of one match, written through a memory-mapped file so recording an attack is
+ * a handful of stores into the page cache rather than a system call.
+ * <p>
+ * The file starts with a header (magic, codec version, board size, side to move, both fleets),
+ * followed by one record per attack, turn change or reset. A record's type byte is stored last and
+ * the unused tail of the file is zero, so a record cut short by a crash reads as the end of the
+ * journal; a check byte catches records whose pages reached disk out of order. Written bytes
+ * survive the process dying straight away; a shared background thread forces them to disk every
+ * {@link #SYNC_INTERVAL_MS}, which bounds what a machine crash loses.
+ * <p>
+ * Not thread-safe: records are appended on whichever thread drives the {@link MatchController}.
+ */
+public final class MatchJournal implements MatchController.MatchListener, Closeable {
+    private static final Logger logger = Logging.getLogger(MatchJournal.class);
+
+    public static final String SUFFIX = ".journal";
+    public static final long SYNC_INTERVAL_MS = 200;
+
+    private static final int MAGIC = 0x4E534A4C; // "NSJL"
+    private static final int INITIAL_SIZE = 64 * 1024;
+
+    // Records are [u8 type][payload][u8 check]; side bytes are 0 for player A, 1 for player B
+    private static final byte END = 0;
+    // u8 attacker side, coordinate, result byte
+    private static final byte ATTACK = 1;
+    // u8 side now to move
+    private static final byte TURN = 2;
+    // u8 side to start; all shots are cleared
+    private static final byte RESET = 3;
+    // u8 winning side
+    private static final byte FINISHED = 4;
+    // Seeds the check byte so a zero-filled body never passes
+    private static final int CHECK_SEED = 0xA5;
+    private static final int MAX_RECORD = 4 + 2 * WireCodec.MAX_VARINT_BYTES;
+
+    private static final ScheduledExecutorService SYNCER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "netships-journal-sync");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MatchController match;
+    private volatile MappedByteBuffer map;
+    // End of the last complete record; read by the sync thread
+    private volatile int written;
+    private int synced;
+    private boolean finished;
+    private boolean failed;
+    private boolean closed;
+    private ScheduledFuture<?> syncTask;
+
+    private MatchJournal(Path file, FileChannel channel, MappedByteBuffer map, MatchController match, boolean finished) {
+        this.file = file;
+        this.channel = channel;
+        this.map = map;
+        this.match = match;
+        this.finished = finished;
+        this.written = map.position();
+    }
+
+    /**
+     * Start journaling a match. Call after both fleets are placed and before the first attack.
+     * The journal listens to the match until {@link #close()}.
+     * @param file New journal file; an existing file is never overwritten
+     * @throws IllegalStateException If the match already has shots on the board.
+     */
+    public static MatchJournal create(Path file, MatchController match) throws IOException {
+        Player a = match.getPlayerA();
+        Player b = match.getPlayerB();
+        if (match.getShotsAt(a).getShotCount() != 0 || match.getShotsAt(b).getShotCount() != 0) {
+            throw new IllegalStateException("Journal must be created before the first attack");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_SIZE);
+            map.position(Integer.BYTES);
+            map.put(WireCodec.VERSION);
+            WireCodec.putVarint(map, match.getRows());
+            WireCodec.putVarint(map, match.getCols());
+            map.put((byte) (match.getCurrentPlayer() == a ? 0 : 1));
+            WireCodec.putFleet(map, a);
+            WireCodec.putFleet(map, b);
+            map.putInt(0, MAGIC);
+
+            MatchJournal journal = new MatchJournal(file, channel, map, match, false);
+            journal.sync();
+            journal.attach();
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Rebuild a match by replaying its journal, then reopen the journal for appending. A torn
+     * record at the end is dropped. A finished match is rebuilt but not listened to.
+     * @throws IOException If the file isn't a journal, or its records contradict the replay.
+     */
+    public static MatchJournal recover(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, checkedSize(file, channel));
+            MatchController match = readHeader(file, map);
+            boolean finished = replay(file, map, match);
+            MatchJournal journal = new MatchJournal(file, channel, map, match, finished);
+            if (!finished) journal.attach();
+            logger.info("Recovered match from " + file + (finished ? " (finished)" : ""));
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Recover every unfinished match journaled in a directory. Finished and unreadable journals
+     * are left on disk untouched.
+     */
+    public static List<MatchJournal> recoverAll(Path dir) throws IOException {
+        List<MatchJournal> open = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    MatchJournal journal = recover(file);
+                    if (journal.isFinished()) journal.close();
+                    else open.add(journal);
+                } catch (IOException e) {
+                    logger.warning("Skipping journal " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Read a journal's moves for replay, without rebuilding the match. If the match was reset,
+     * only the moves since the last reset are kept. A torn record at the end is dropped.
+     * @throws IOException If the file isn't a journal.
+     */
+    public static MoveLog readLog(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, checkedSize(file, channel));
+            MatchController match = readHeader(file, map);
+            Player a = match.getPlayerA();
+            Player b = match.getPlayerB();
+            MoveLog log = new MoveLog(a, b, match.getCurrentPlayer() == b, match.getRows(), match.getCols());
+
+            int[] fields = new int[4];
+            for (byte type; (type = nextRecord(file, map, fields)) != END; ) {
+                switch (type) {
+                    case ATTACK -> log.addAttack(fields[0] == 0 ? MoveLog.SIDE_A : MoveLog.SIDE_B, fields[1], fields[2]);
+                    case TURN -> log.addTurnEnd();
+                    case RESET -> log = new MoveLog(a, b, fields[0] != 0, match.getRows(), match.getCols());
+                    default -> {}
+                }
+            }
+            return log;
+        }
+    }
+
+    private static long checkedSize(Path file, FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < Integer.BYTES + 1 || size > Integer.MAX_VALUE) throw new IOException("Not a match journal: " + file);
+        return size;
+    }
+
+    // Decode the header into a fresh match, leaving the buffer at the first record
+    private static MatchController readHeader(Path file, MappedByteBuffer map) throws IOException {
+        if (map.getInt(0) != MAGIC) throw new IOException("Not a match journal: " + file);
+        map.position(Integer.BYTES);
+        byte version = map.get();
+        if (version != WireCodec.VERSION) throw new IOException("Unsupported journal version " + version + ": " + file);
+        try {
+            int rows = WireCodec.getVarint(map);
+            int cols = WireCodec.getVarint(map);
+            boolean bStarts = map.get() != 0;
+            Player a = WireCodec.getFleet(map, rows, cols);
+            Player b = WireCodec.getFleet(map, rows, cols);
+            return new MatchController(a, b, bStarts ? b : a, rows, cols);
+        } catch (ProtocolException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupt journal header: " + file, e);
+        }
+    }
+
+    /*
+     * Decode the record at the buffer position into fields (side, x, y, result byte) and return
+     * its type. At the end marker or a torn record, returns END with the buffer left on it.
+     */
+    private static byte nextRecord(Path file, MappedByteBuffer map, int[] fields) {
+        int start = map.position();
+        try {
+            byte type = map.get();
+            if (type == END) {
+                map.position(start);
+                return END;
+            }
+            fields[0] = map.get();
+            switch (type) {
+                case ATTACK -> {
+                    fields[1] = WireCodec.getVarint(map);
+                    fields[2] = WireCodec.getVarint(map);
+                    fields[3] = map.get();
+                }
+                case TURN, RESET, FINISHED -> {}
+                default -> throw new ProtocolException("Unknown record type " + type);
+            }
+            int end = map.position();
+            if (map.get() != check(map, start, end)) throw new ProtocolException("Bad record check");
+            return type;
+        } catch (ProtocolException | BufferUnderflowException e) {
+            logger.warning("Journal " + file + " has a torn record at offset " + start + ", dropping the tail");
+            map.position(start);
+            return END;
+        }
+    }
+
+    // Apply every record, leaving the buffer at the end of valid data; returns whether the match finished
+    private static boolean replay(Path file, MappedByteBuffer map, MatchController match) throws IOException {
+        Player a = match.getPlayerA();
+        Player b = match.getPlayerB();
+        boolean finished = false;
+        int[] fields = new int[4];
+        for (byte type; (type = nextRecord(file, map, fields)) != END; ) {
+            Player side = fields[0] == 0 ? a : b;
+            boolean consistent = switch (type) {
+                case ATTACK -> WireCodec.encodeResult(match.replayAttack(side, side == a ? b : a, fields[1], fields[2])) == (byte) fields[3];
+                case TURN -> {
+                    match.replayEndTurn();
+                    yield match.isTurn(side);
+                }
+                case RESET -> {
+                    match.reset(side);
+                    finished = false;
+                    yield true;
+                }
+                default -> {
+                    finished = true;
+                    yield true;
+                }
+            };
+            if (!consistent) throw new IOException("Journal " + file + " diverges from replay before offset " + map.position());
+        }
+        return finished;
+    }
+
+    private static byte check(MappedByteBuffer map, int start, int end) {
+        int c = CHECK_SEED;
+        for (int i = start + 1; i < end; i++) c ^= map.get(i);
+        return (byte) c;
+    }
+
+    private void attach() {
+        match.addListener(this);
+        syncTask = SYNCER.scheduleWithFixedDelay(this::sync, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // ========== MatchListener ==========
+
+    @Override
+    public void onAttack(Player attacker, int x, int y, AttackResult result) {
+        int start = begin();
+        if (start < 0) return;
+        map.put(side(attacker));
+        WireCodec.putCoord(map, x, y);
+        WireCodec.putResult(map, result);
+        commit(start, ATTACK);
+
+        if (!finished && match.isGameOver()) {
+            start = begin();
+            if (start < 0) return;
+            map.put(side(match.getWinner()));
+            commit(start, FINISHED);
+            finished = true;
+        }
+    }
+
+    @Override
+    public void onTurnEnded(Player next) {
+        int start = begin();
+        if (start < 0) return;
+        map.put(side(next));
+        commit(start, TURN);
+    }
+
+    @Override
+    public void onReset(Player startingPlayer) {
+        int start = begin();
+        if (start < 0) return;
+        map.put(side(startingPlayer));
+        commit(start, RESET);
+        finished = false;
+    }
+
+    private byte side(Player player) {
+        return (byte) (player == match.getPlayerA() ? 0 : 1);
+    }
+
+    // Reserve room for one record and skip its type byte; returns the record start, or -1 if disabled
+    private int begin() {
+        if (failed) return -1;
+        MappedByteBuffer m = map;
+        if (m.capacity() - m.position() <= MAX_RECORD) {
+            try {
+                grow();
+            } catch (IOException e) {
+                // Losing the journal must not take the match down with it
+                failed = true;
+                logger.severe("Journal " + file + " disabled, could not grow: " + e.getMessage());
+                return -1;
+            }
+        }
+        int start = map.position();
+        map.position(start + 1);
+        return start;
+    }
+
+    // Seal and terminate the record, then publish it by writing its type
+    private void commit(int start, byte type) {
+        MappedByteBuffer m = map;
+        m.put(check(m, start, m.position()));
+        int end = m.position();
+        m.put(end, END);
+        m.put(start, type);
+        written = end;
+    }
+
+    private void grow() throws IOException {
+        MappedByteBuffer old = map;
+        long size = (long) old.capacity() * 2;
+        if (size > Integer.MAX_VALUE) throw new IOException("Journal too large");
+        MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        grown.position(old.position());
+        map = grown;
+    }
+
+    /**
+     * Force everything appended so far to disk. Runs periodically on its own; call it directly
+     * only where a match must be durable at a known point.
+     */
+    public synchronized void sync() {
+        if (closed) return;
+        // Read written before map so a grown mapping is never forced with a stale buffer
+        int end = written;
+        MappedByteBuffer m = map;
+        if (end == synced) return;
+        m.force(synced, end - synced);
+        synced = end;
+    }
+
+    /**
+     * Stop journaling, sync, and release the file. The journal stays on disk for recovery.
+     */
+    @Override
+    public void close() throws IOException {
+        if (syncTask != null) syncTask.cancel(false);
+        match.removeListener(this);
+        sync();
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+        }
+        channel.close();
+    }
+
+    public MatchController getMatch() { return match; }
+
+    public Path getFile() { return file; }
+
+    /**
+     * @return Whether the journal records the match ending.
+     */
+    public boolean isFinished() { return finished; }
+
+    // Bytes of complete records, header included; for tests
+    int getLength() { return written; }
+}
@@ -0,0 +1,140 @@
+package casey.lcbdev.persist;
+
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.util.Logging;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * The directory where matches are journaled as they are played, set with the
+ * {@code netships.journal.dir} system property. Journaling is off while it is unset.
+ * <p>
+ * Only journals that may still be needed stay in the directory: a journal is deleted once its
+ * match finishes, and an unfinished one is moved into {@link #SET_ASIDE_DIR} once it has been
+ * dealt with after a crash, so startup never recovers the same match twice.
+ */
+public final class MatchJournals {
+    private static final Logger logger = Logging.getLogger(MatchJournals.class);
+
+    public static final String DIR_PROPERTY = "netships.journal.dir";
+    // Subdirectory for recovered and unreadable journals; kept for replay but never recovered again
+    public static final String SET_ASIDE_DIR = "recovered";
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+    private static volatile Path directory = fromProperty();
+
+    private MatchJournals() {}
+
+    private static Path fromProperty() {
+        String dir = System.getProperty(DIR_PROPERTY);
+        return dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+
+    public static boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @return The journal directory, or null while journaling is off.
+     */
+    public static Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Override the system property, e.g. for tests.
+     * @param dir Journal directory, or null to stop journaling new matches
+     */
+    public static void setDirectory(Path dir) {
+        directory = dir;
+    }
+
+    /**
+     * Journal a new match under a fresh file name. A journal that can't be created is logged and
+     * skipped, since the match can be played without one.
+     * @return The journal, or null if journaling is off or failed.
+     */
+    public static MatchJournal start(MatchController match) {
+        Path dir = directory;
+        if (dir == null) return null;
+        Path file = dir.resolve("match-" + System.currentTimeMillis() + "-" + sequence.incrementAndGet() + MatchJournal.SUFFIX);
+        try {
+            Files.createDirectories(dir);
+            return MatchJournal.create(file, match);
+        } catch (IOException e) {
+            logger.warning("Not journaling match, could not create " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Recover the unfinished matches in the journal directory, e.g. at startup after a crash.
+     * Finished journals left behind by a crash are deleted, and unreadable ones set aside.
+     * @return Open journals, still recording their matches; empty if journaling is off. Pass each
+     *         to {@link #discard} or {@link #setAside} once done with it.
+     */
+    public static List<MatchJournal> recoverUnfinished() {
+        Path dir = directory;
+        if (dir == null || !Files.isDirectory(dir)) return List.of();
+        List<MatchJournal> open = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + MatchJournal.SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    MatchJournal journal = MatchJournal.recover(file);
+                    if (journal.isFinished()) discard(journal);
+                    else open.add(journal);
+                } catch (IOException e) {
+                    logger.warning("Setting aside unreadable journal " + file + ": " + e.getMessage());
+                    moveAside(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not scan journal directory " + dir + ": " + e.getMessage());
+        }
+        return open;
+    }
+
+    /**
+     * Close the journal of a finished or abandoned match and delete its file.
+     */
+    public static void discard(MatchJournal journal) {
+        try {
+            journal.close();
+            Files.deleteIfExists(journal.getFile());
+        } catch (IOException e) {
+            logger.warning("Could not delete journal " + journal.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close a journal and move it into {@link #SET_ASIDE_DIR} beside it, where it can still be
+     * replayed or resumed but is no longer recovered at startup.
+     * @return The journal's new location, or null if it could not be moved.
+     */
+    public static Path setAside(MatchJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Could not close journal " + journal.getFile() + ": " + e.getMessage());
+        }
+        return moveAside(journal.getFile());
+    }
+
+    private static Path moveAside(Path file) {
+        Path target = file.resolveSibling(SET_ASIDE_DIR).resolve(file.getFileName());
+        try {
+            Files.createDirectories(target.getParent());
+            return Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not move journal " + file + " aside: " + e.getMessage());
+            return null;
+        }
+    }
+}
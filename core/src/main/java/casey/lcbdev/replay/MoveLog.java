@@ -0,0 +1,123 @@
+package casey.lcbdev.replay;
+
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.net.WireCodec;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A recorded match: board size, both fleets, who moved first, and every move in order.
+ * A move is an attack or the end of a turn. Moves are kept in parallel primitive arrays, so a
+ * match of a million shots costs about nine megabytes.
+ */
+public final class MoveLog {
+    public static final int SIDE_A = 0;
+    public static final int SIDE_B = 1;
+    private static final byte TURN_END = 2;
+
+    private final int rows;
+    private final int cols;
+    private final boolean bStarts;
+    // Fleets in WireCodec.putFleet form, so every replay gets its own ships
+    private final byte[] fleetA;
+    private final byte[] fleetB;
+
+    // SIDE_A or SIDE_B for an attack, TURN_END otherwise
+    private byte[] kinds = new byte[64];
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int size;
+    private int turnEnds;
+
+    /**
+     * @param a Player A with their fleet placed; copied, so later changes aren't seen
+     * @param b Same for player B
+     * @param bStarts Whether player B took the first turn
+     */
+    public MoveLog(Player a, Player b, boolean bStarts, int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.bStarts = bStarts;
+        this.fleetA = encode(a);
+        this.fleetB = encode(b);
+    }
+
+    private static byte[] encode(Player player) {
+        ByteBuffer buf = ByteBuffer.allocate(WireCodec.fleetSize(player));
+        WireCodec.putFleet(buf, player);
+        return Arrays.copyOf(buf.array(), buf.position());
+    }
+
+    /**
+     * @param side {@link #SIDE_A} or {@link #SIDE_B}, the attacker
+     */
+    public void addAttack(int side, int x, int y) {
+        if (side != SIDE_A && side != SIDE_B) throw new IllegalArgumentException("Unknown side " + side);
+        add((byte) side, x, y);
+    }
+
+    public void addTurnEnd() {
+        add(TURN_END, -1, -1);
+        turnEnds++;
+    }
+
+    private void add(byte kind, int x, int y) {
+        if (size == kinds.length) {
+            int grown = size * 2;
+            kinds = Arrays.copyOf(kinds, grown);
+            xs = Arrays.copyOf(xs, grown);
+            ys = Arrays.copyOf(ys, grown);
+        }
+        kinds[size] = kind;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * @return A fresh match with both fleets placed and no moves applied.
+     */
+    public MatchController newMatch() {
+        try {
+            Player a = WireCodec.getFleet(ByteBuffer.wrap(fleetA), rows, cols);
+            Player b = WireCodec.getFleet(ByteBuffer.wrap(fleetB), rows, cols);
+            return new MatchController(a, b, bStarts ? b : a, rows, cols);
+        } catch (ProtocolException e) {
+            // Both fleets were encoded from placed players in the constructor
+            throw new IllegalStateException("Recorded fleet no longer decodes", e);
+        }
+    }
+
+    public int size() { return size; }
+
+    /**
+     * @return Number of completed turns.
+     */
+    public int getTurnCount() { return turnEnds; }
+
+    public boolean isTurnEnd(int move) { return kind(move) == TURN_END; }
+
+    /**
+     * @return {@link #SIDE_A} or {@link #SIDE_B}; only meaningful for attacks.
+     */
+    public int getSide(int move) { return kind(move); }
+
+    public int getX(int move) { return xs[checked(move)]; }
+
+    public int getY(int move) { return ys[checked(move)]; }
+
+    public int getRows() { return rows; }
+
+    public int getCols() { return cols; }
+
+    private byte kind(int move) {
+        return kinds[checked(move)];
+    }
+
+    private int checked(int move) {
+        if (move < 0 || move >= size) throw new IndexOutOfBoundsException("Move " + move + " of " + size);
+        return move;
+    }
+}
@@ -0,0 +1,155 @@
+package casey.lcbdev.replay;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.ShotBoard;
+import java.util.Arrays;
+
+/**
+ * Seekable playback of a {@link MoveLog}.
+ * <p>
+ * The log is played through once when the engine is built, keeping a keyframe (both shot boards
+ * and the side to move) every {@code interval} moves. Seeking restores the keyframe at or before
+ * the target and applies at most {@code interval - 1} moves; seeking a short way forward just
+ * steps. A keyframe is two bitboards, about {@code rows * cols / 4} bytes, so the default interval
+ * grows with the board to keep keyframes near 64 bytes per move.
+ * <p>
+ * Not thread-safe.
+ */
+public final class ReplayEngine {
+    public static final int MIN_INTERVAL = 32;
+
+    private final MoveLog log;
+    private final int interval;
+    private final MatchController match;
+    private final Player playerA;
+    private final Player playerB;
+
+    // Keyframe k is the state after k * interval moves
+    private final ShotBoard[] keyAtA;
+    private final ShotBoard[] keyAtB;
+    private final boolean[] keyBToMove;
+    // First move of each turn; strictly increasing
+    private final int[] turnStarts;
+    private int position;
+
+    public ReplayEngine(MoveLog log) {
+        this(log, defaultInterval(log.getRows(), log.getCols()));
+    }
+
+    /**
+     * Play the whole log through once, keeping keyframes, then rewind to the first move.
+     * @param interval Moves between keyframes
+     * @throws IllegalArgumentException If the interval isn't positive, or a move in the log is illegal.
+     */
+    public ReplayEngine(MoveLog log, int interval) {
+        if (interval <= 0) throw new IllegalArgumentException("Keyframe interval must be positive");
+        this.log = log;
+        this.interval = interval;
+        this.match = log.newMatch();
+        this.playerA = match.getPlayerA();
+        this.playerB = match.getPlayerB();
+
+        int frames = log.size() / interval + 1;
+        keyAtA = new ShotBoard[frames];
+        keyAtB = new ShotBoard[frames];
+        keyBToMove = new boolean[frames];
+        turnStarts = new int[log.getTurnCount() + 1];
+
+        int turn = 0;
+        for (int m = 0; ; m++) {
+            if (m % interval == 0) capture(m / interval);
+            if (m == log.size()) break;
+            if (!apply(m)) throw new IllegalArgumentException("Move " + m + " is not legal");
+            if (log.isTurnEnd(m)) turnStarts[++turn] = m + 1;
+        }
+        position = log.size();
+        seek(0);
+    }
+
+    /**
+     * @return Keyframe interval that keeps keyframe memory near 64 bytes per move.
+     */
+    public static int defaultInterval(int rows, int cols) {
+        return (int) Math.max(MIN_INTERVAL, (long) rows * cols / 256);
+    }
+
+    private void capture(int k) {
+        keyAtA[k] = new ShotBoard(log.getRows(), log.getCols());
+        keyAtB[k] = new ShotBoard(log.getRows(), log.getCols());
+        match.copyShots(keyAtA[k], keyAtB[k]);
+        keyBToMove[k] = match.getCurrentPlayer() == playerB;
+    }
+
+    private boolean apply(int move) {
+        if (log.isTurnEnd(move)) {
+            match.replayEndTurn();
+            return true;
+        }
+        Player attacker = log.getSide(move) == MoveLog.SIDE_A ? playerA : playerB;
+        Player defender = attacker == playerA ? playerB : playerA;
+        AttackResult result = match.replayAttack(attacker, defender, log.getX(move), log.getY(move));
+        return result.isResolved();
+    }
+
+    /**
+     * Move to the state after the first {@code move} moves.
+     * @param move From 0 (nothing played) to {@link #getMoveCount()} (the final state)
+     */
+    public void seek(int move) {
+        if (move < 0 || move > log.size()) throw new IndexOutOfBoundsException("Move " + move + " of " + log.size());
+        if (move < position || move - position >= interval) {
+            int k = move / interval;
+            match.restore(keyAtA[k], keyAtB[k], keyBToMove[k] ? playerB : playerA);
+            position = k * interval;
+        }
+        while (position < move) apply(position++);
+    }
+
+    /**
+     * Move to the start of a turn.
+     * @param turn From 0 to {@link #getTurnCount()}, the last being the unfinished turn if any
+     */
+    public void seekTurn(int turn) {
+        if (turn < 0 || turn >= turnStarts.length) throw new IndexOutOfBoundsException("Turn " + turn + " of " + (turnStarts.length - 1));
+        seek(turnStarts[turn]);
+    }
+
+    /**
+     * Apply the next move.
+     * @return false if already at the end.
+     */
+    public boolean step() {
+        if (position == log.size()) return false;
+        apply(position++);
+        return true;
+    }
+
+    /**
+     * @return Number of moves applied.
+     */
+    public int getPosition() { return position; }
+
+    /**
+     * @return Index of the turn the current position falls in.
+     */
+    public int getTurn() {
+        int i = Arrays.binarySearch(turnStarts, position);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    public int getMoveCount() { return log.size(); }
+
+    /**
+     * @return Number of completed turns in the log.
+     */
+    public int getTurnCount() { return log.getTurnCount(); }
+
+    public int getInterval() { return interval; }
+
+    /**
+     * @return The match at the current position. Read it, don't play on it; use {@link #seek(int)} to move.
+     */
+    public MatchController getMatch() { return match; }
+}
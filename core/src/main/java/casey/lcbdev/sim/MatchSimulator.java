@@ -0,0 +1,183 @@
+package casey.lcbdev.sim;
+
+import casey.lcbdev.metrics.Counter;
+import casey.lcbdev.metrics.Metrics;
+import casey.lcbdev.model.game.AIPlayer;
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.DensityTargeting;
+import casey.lcbdev.model.game.MonteCarloTargeting;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.RandomTargeting;
+import casey.lcbdev.model.game.TargetingStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Headless AI-vs-AI match runner for strategy tuning.
+ * Matches run on a fork-join pool. Every game draws its randomness from a SplittableRandom
+ * seeded from (seed, game index) alone, so a seeded run gives the same results for any thread count.
+ */
+public class MatchSimulator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final Counter MATCHES_STARTED = Metrics.counter(Metrics.MATCHES_STARTED);
+    // Games per leaf task; small enough to balance, large enough to amortise task overhead
+    private static final int BATCH = 256;
+    // Monte Carlo budget for the command line, fixed so results don't depend on the machine
+    private static final int MONTE_CARLO_SAMPLERS = 4;
+    private static final int MONTE_CARLO_ATTEMPTS = 500;
+
+    private final int rows;
+    private final int cols;
+    private final int threads;
+    private final TargetingStrategy.Factory targetingA;
+    private final TargetingStrategy.Factory targetingB;
+
+    public MatchSimulator(int rows, int cols, int threads) {
+        this(rows, cols, threads, RandomTargeting::new, RandomTargeting::new);
+    }
+
+    /**
+     * @param targetingA Attack strategy for player A
+     * @param targetingB Attack strategy for player B
+     */
+    public MatchSimulator(int rows, int cols, int threads,
+                          TargetingStrategy.Factory targetingA, TargetingStrategy.Factory targetingB) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        this.threads = threads;
+        this.targetingA = targetingA;
+        this.targetingB = targetingB;
+    }
+
+    /**
+     * Play a batch of matches.
+     * @param games Number of matches to play
+     * @param seed Master seed
+     * @return Aggregated results with wall-clock timing
+     */
+    public SimulationResult run(long games, long seed) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            SimulationResult result = pool.invoke(new GameRange(0, games, seed));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play one match to completion. Turn rules mirror GameManager: a hit fires again, a miss or sink passes the turn.
+     */
+    void playGame(long gameIndex, long seed, SimulationResult into) {
+        SplittableRandom rnd = new SplittableRandom(mix64(seed + GOLDEN_GAMMA * gameIndex));
+        AIPlayer aiA = new AIPlayer(rows, cols, rnd.split());
+        AIPlayer aiB = new AIPlayer(rows, cols, rnd.split());
+        aiA.setTargeting(targetingA);
+        aiB.setTargeting(targetingB);
+        aiA.placeAllShipsRandomly();
+        aiB.placeAllShipsRandomly();
+
+        Player a = aiA.getPlayerModel();
+        Player b = aiB.getPlayerModel();
+        boolean aStarts = rnd.nextBoolean();
+        MatchController match = new MatchController(a, b, aStarts ? a : b, rows, cols);
+        MATCHES_STARTED.increment();
+
+        int shotsA = 0;
+        int shotsB = 0;
+        while (!match.isGameOver()) {
+            boolean aTurn = match.isTurn(a);
+            AIPlayer ai = aTurn ? aiA : aiB;
+            AIPlayer.Coord c = ai.pickNextAttack();
+            if (c == null) {
+                throw new IllegalStateException("AI ran out of moves before the game ended");
+            }
+            AttackResult result = aTurn ? match.attack(a, b, c.x, c.y) : match.attack(b, a, c.x, c.y);
+            ai.recordResult(c.x, c.y, result);
+            if (aTurn) shotsA++; else shotsB++;
+            if (result.type == AttackResult.Type.MISS || result.type == AttackResult.Type.SUNK) {
+                match.endTurn();
+            }
+        }
+
+        boolean aWon = match.getWinner() == a;
+        into.record(aStarts, aWon == aStarts, aWon ? shotsA : shotsB);
+    }
+
+    // SplitMix64 finaliser: decorrelates neighbouring game indices
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // Never serialized; fork-join tasks only inherit Serializable
+    @SuppressWarnings("serial")
+    private final class GameRange extends RecursiveTask<SimulationResult> {
+        private final long from;
+        private final long to;
+        private final long seed;
+
+        GameRange(long from, long to, long seed) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= BATCH) {
+                SimulationResult local = new SimulationResult();
+                for (long i = from; i < to; i++) {
+                    playGame(i, seed, local);
+                }
+                return local;
+            }
+            long mid = (from + to) >>> 1;
+            GameRange left = new GameRange(from, mid, seed);
+            left.fork();
+            SimulationResult right = new GameRange(mid, to, seed).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Usage: MatchSimulator [games] [threads] [seed] [rows] [cols] [strategyA] [strategyB]
+     * where a strategy is "random" (default), "density" or "montecarlo" (a fixed number of sampled
+     * layouts per move on the common pool, so seeded runs stay reproducible).
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int rows = args.length > 3 ? Integer.parseInt(args[3]) : MatchController.DEFAULT_ROWS;
+        int cols = args.length > 4 ? Integer.parseInt(args[4]) : MatchController.DEFAULT_COLS;
+        TargetingStrategy.Factory strategyA = strategyNamed(args.length > 5 ? args[5] : "random");
+        TargetingStrategy.Factory strategyB = strategyNamed(args.length > 6 ? args[6] : "random");
+
+        // Per-shot engine logging would dominate a headless run
+        Logger.getLogger("casey.lcbdev").setLevel(Level.WARNING);
+
+        SimulationResult result = new MatchSimulator(rows, cols, threads, strategyA, strategyB).run(games, seed);
+        System.out.println(result);
+    }
+
+    private static TargetingStrategy.Factory strategyNamed(String name) {
+        return switch (name) {
+            case "random" -> RandomTargeting::new;
+            case "density" -> DensityTargeting::new;
+            case "montecarlo" -> MonteCarloTargeting.factory(ForkJoinPool.commonPool(),
+                MONTE_CARLO_SAMPLERS, MONTE_CARLO_ATTEMPTS);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package casey.lcbdev.sim;
+
+/**
+ * Aggregated outcome of a batch of simulated AI-vs-AI matches.
+ * All counts are sums over games, so merging partial results is order independent.
+ */
+public final class SimulationResult {
+    private long games;
+    private long gamesStartedByA;
+    private long winsWhenAStarted;
+    private long winsWhenBStarted;
+    private long totalShotsToWin;
+    private int minShotsToWin = Integer.MAX_VALUE;
+    private int maxShotsToWin = 0;
+    private long elapsedNanos;
+
+    void record(boolean aStarted, boolean starterWon, int winnerShots) {
+        games++;
+        if (aStarted) {
+            gamesStartedByA++;
+            if (starterWon) winsWhenAStarted++;
+        } else if (starterWon) {
+            winsWhenBStarted++;
+        }
+        totalShotsToWin += winnerShots;
+        if (winnerShots < minShotsToWin) minShotsToWin = winnerShots;
+        if (winnerShots > maxShotsToWin) maxShotsToWin = winnerShots;
+    }
+
+    SimulationResult merge(SimulationResult other) {
+        games += other.games;
+        gamesStartedByA += other.gamesStartedByA;
+        winsWhenAStarted += other.winsWhenAStarted;
+        winsWhenBStarted += other.winsWhenBStarted;
+        totalShotsToWin += other.totalShotsToWin;
+        minShotsToWin = Math.min(minShotsToWin, other.minShotsToWin);
+        maxShotsToWin = Math.max(maxShotsToWin, other.maxShotsToWin);
+        return this;
+    }
+
+    void setElapsedNanos(long elapsedNanos) { this.elapsedNanos = elapsedNanos; }
+
+    public long getGames() { return games; }
+    public long getGamesStartedByA() { return gamesStartedByA; }
+    public long getGamesStartedByB() { return games - gamesStartedByA; }
+    public long getWinsWhenAStarted() { return winsWhenAStarted; }
+    public long getWinsWhenBStarted() { return winsWhenBStarted; }
+    public long getWinsByA() { return winsWhenAStarted + (getGamesStartedByB() - winsWhenBStarted); }
+    public long getTotalShotsToWin() { return totalShotsToWin; }
+    public int getMinShotsToWin() { return games == 0 ? 0 : minShotsToWin; }
+    public int getMaxShotsToWin() { return maxShotsToWin; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getMeanShotsToWin() {
+        return games == 0 ? 0 : (double) totalShotsToWin / games;
+    }
+
+    /**
+     * @return Fraction of games won by whichever player moved first.
+     */
+    public double getStarterWinRate() {
+        return games == 0 ? 0 : (double) (winsWhenAStarted + winsWhenBStarted) / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Compare the game outcomes only, ignoring timing.
+     */
+    public boolean sameOutcomes(SimulationResult o) {
+        return games == o.games
+            && gamesStartedByA == o.gamesStartedByA
+            && winsWhenAStarted == o.winsWhenAStarted
+            && winsWhenBStarted == o.winsWhenBStarted
+            && totalShotsToWin == o.totalShotsToWin
+            && minShotsToWin == o.minShotsToWin
+            && maxShotsToWin == o.maxShotsToWin;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d (%.0f games/sec) shotsToWin[mean=%.2f min=%d max=%d] winsByA=%d starterWinRate=%.4f "
+                + "(A started %d, won %d; B started %d, won %d)",
+            games, getGamesPerSecond(), getMeanShotsToWin(), getMinShotsToWin(), maxShotsToWin, getWinsByA(),
+            getStarterWinRate(), gamesStartedByA, winsWhenAStarted, getGamesStartedByB(), winsWhenBStarted);
+    }
+}
@@ -0,0 +1,163 @@
+package casey.lcbdev.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Log handler that hands records to a background writer, so logging threads never wait on disk.
+ * <p>
+ * Records pass through a bounded ring buffer. When it is full, records below WARNING are dropped
+ * straight away and warnings wait briefly for room; the writer notes how many were lost once it
+ * catches up. Records are formatted on the writer thread and flushed whenever the buffer drains.
+ * The file rotates by size, keeping older files as {@code name.1} (newest) to {@code name.N}.
+ */
+final class AsyncLogHandler extends Handler {
+    private static final long URGENT_WAIT_MS = 50;
+    private static final long IDLE_POLL_MS = 200;
+    private static final int BATCH = 256;
+
+    private final ArrayBlockingQueue<LogRecord> ring;
+    private final Path file;
+    private final long limitBytes;
+    private final int maxFiles;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    // Writer thread only
+    private Writer out;
+    private long written;
+
+    /**
+     * @param capacity Records buffered before the drop policy applies
+     * @param limitBytes Size at which the file rotates; about one character per byte
+     * @param maxFiles Rotated files kept besides the live one
+     */
+    AsyncLogHandler(Path file, int capacity, long limitBytes, int maxFiles) throws IOException {
+        if (capacity <= 0 || limitBytes <= 0 || maxFiles < 0) throw new IllegalArgumentException("Bad log handler limits");
+        this.ring = new ArrayBlockingQueue<>(capacity);
+        this.file = file;
+        this.limitBytes = limitBytes;
+        this.maxFiles = maxFiles;
+        this.written = Files.exists(file) ? Files.size(file) : 0;
+        this.out = open();
+        setFormatter(new SimpleFormatter());
+        this.writerThread = new Thread(this::drainLoop, "netships-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private Writer open() throws IOException {
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) return;
+        if (ring.offer(record)) return;
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            try {
+                if (ring.offer(record, URGENT_WAIT_MS, TimeUnit.MILLISECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void drainLoop() {
+        List<LogRecord> batch = new ArrayList<>(BATCH);
+        while (!closed || !ring.isEmpty()) {
+            try {
+                LogRecord first = ring.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                ring.drainTo(batch, BATCH - 1);
+                for (LogRecord r : batch) write(getFormatter().format(r));
+                batch.clear();
+
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) write("[log] dropped " + lost + " records while the writer was behind" + System.lineSeparator());
+                if (ring.isEmpty()) out.flush();
+            } catch (InterruptedException e) {
+                // Nobody interrupts this thread; close() is noticed within one idle poll
+                batch.clear();
+            } catch (IOException | RuntimeException e) {
+                batch.clear();
+                reportError("Log write failed", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            reportError("Log close failed", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    private void write(String line) throws IOException {
+        if (written + line.length() > limitBytes && written > 0) rotate();
+        out.write(line);
+        written += line.length();
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        if (maxFiles == 0) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.deleteIfExists(rotated(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path from = rotated(i);
+                if (Files.exists(from)) Files.move(from, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        out = open();
+        written = 0;
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /**
+     * Records are flushed as soon as the writer has nothing queued, so there is nothing to force here.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Stop accepting records, write out everything queued, and close the file.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        // No interrupt: it would close the file channel under a write in progress
+        closed = true;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Records lost to backpressure and not yet reported in the log.
+     */
+    long getPendingDrops() { return dropped.get(); }
+}
@@ -0,0 +1,134 @@
+package casey.lcbdev.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.*;
+
+/**
+ * Logging setup shared by every module. Records go to {@code logs/} through an
+ * {@link AsyncLogHandler}, so logging costs the caller an enqueue, never disk I/O.
+ * <p>
+ * The level defaults to INFO and can be changed with {@code -Dnetships.log.level=FINE}. Per-shot
+ * and per-frame messages log at FINE with a supplier, e.g. {@code logger.fine(() -> "...")}, so
+ * they cost nothing at the default level.
+ */
+public final class Logging {
+    private static final String LOG_DIR = "logs";
+    private static final String LOG_PREFIX = "NetShips_";
+    private static final DateTimeFormatter TS_FMT = DateTimeFormatter.ofPattern("ddMMyyyy_HHmmss");
+    private static final String LEVEL_PROPERTY = "netships.log.level";
+    private static final int RING_CAPACITY = 8192;
+    private static final long ROTATE_BYTES = 10L * 1024 * 1024;
+    private static final int ROTATED_FILES = 5;
+    private static volatile boolean initialized = false;
+    private static Handler sharedFileHandler = null;
+
+    private Logging() {}
+
+    public static synchronized void init() {
+        if (initialized) return;
+
+        try {
+            Path logDir = Path.of(LOG_DIR);
+            if (!Files.exists(logDir)) Files.createDirectories(logDir);
+
+            String ts = LocalDateTime.now().format(TS_FMT);
+            Path file = logDir.resolve(LOG_PREFIX + ts + ".log");
+
+            sharedFileHandler = new AsyncLogHandler(file, RING_CAPACITY, ROTATE_BYTES, ROTATED_FILES);
+            sharedFileHandler.setFormatter(new CustomFormatter());
+            sharedFileHandler.setLevel(Level.ALL);
+
+            String[] allowedPrefixes = new String[] { "casey.lcbdev" };
+            sharedFileHandler.setFilter(record -> {
+                String loggerName = record.getLoggerName();
+                if(loggerName == null) return false;
+                for(String p : allowedPrefixes) {
+                    if(loggerName.startsWith(p)) return true;
+                }
+                return false;
+            });
+
+            Logger root = Logger.getLogger("");
+            for (Handler h : root.getHandlers()) {
+                root.removeHandler(h);
+            }
+            root.addHandler(sharedFileHandler);
+            root.setLevel(configuredLevel());
+
+            // Write out whatever is still queued when the JVM exits
+            Handler handler = sharedFileHandler;
+            Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "netships-log-shutdown"));
+
+            initialized = true;
+        } catch (IOException e) {
+            System.err.println("Failed to initialize logging: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static Level configuredLevel() {
+        String name = System.getProperty(LEVEL_PROPERTY);
+        if (name == null) return Level.INFO;
+        try {
+            return Level.parse(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level '" + name + "', using INFO");
+            return Level.INFO;
+        }
+    }
+
+    public static Logger getLogger(Class<?> cls) {
+        if (!initialized) init();
+        return Logger.getLogger(cls.getName());
+    }
+
+    /** Custom formatter:
+     * [DD:MM:YYYY-HH:mm:ss] {loggername}:{LEVEL}:: {MESSAGE}
+     * <p>
+     * The logger name stands in for the source class, since asking a record for its source walks
+     * the stack, and on the writer thread would find the wrong one. The timestamp text is reused
+     * until the second changes. Only used from the writer thread.
+     */
+    private static class CustomFormatter extends Formatter {
+        private final DateTimeFormatter tsFormatter =
+                DateTimeFormatter.ofPattern("dd:MM:yyyy-HH:mm:ss").withZone(ZoneId.systemDefault());
+        private final StringBuilder line = new StringBuilder(256);
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedTimestamp;
+
+        @Override
+        public String format(LogRecord record) {
+            line.setLength(0);
+            line.append('[').append(timestamp(record.getInstant())).append("] ")
+                .append(safe(record.getLoggerName())).append(':')
+                .append(record.getLevel().getName()).append(":: ")
+                .append(formatMessage(record));
+            if (record.getThrown() != null) {
+                line.append('\n').append(record.getThrown()).append('\n');
+                for (StackTraceElement el : record.getThrown().getStackTrace()) {
+                    line.append("\t at ").append(el).append('\n');
+                }
+            }
+            return line.append(System.lineSeparator()).toString();
+        }
+
+        private String timestamp(Instant instant) {
+            long second = instant.getEpochSecond();
+            if (second != cachedSecond) {
+                cachedSecond = second;
+                cachedTimestamp = tsFormatter.format(instant);
+            }
+            return cachedTimestamp;
+        }
+
+        private String safe(String s) {
+            return (s == null) ? "Unknown" : s;
+        }
+    }
+}
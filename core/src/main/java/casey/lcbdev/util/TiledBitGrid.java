@@ -0,0 +1,132 @@
+package casey.lcbdev.util;
+
+import java.util.Arrays;
+
+/**
+ * Sparse 2D bitmap split into 64x64 tiles, one long per tile row.
+ * A tile is only allocated the first time a bit inside it is set, so memory
+ * scales with the regions that have been touched rather than the grid area.
+ * Coordinates passed to get/set/clear must be in range.
+ */
+public final class TiledBitGrid {
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = 63;
+
+    private final int rows;
+    private final int cols;
+    private final int tilesX;
+    private final int tilesY;
+    private final long[][] tiles;
+    private int allocatedTiles = 0;
+
+    public TiledBitGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.tilesX = (cols + TILE_MASK) >>> TILE_SHIFT;
+        this.tilesY = (rows + TILE_MASK) >>> TILE_SHIFT;
+        this.tiles = new long[tilesX * tilesY][];
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public boolean get(int x, int y) {
+        long[] tile = tiles[(y >>> TILE_SHIFT) * tilesX + (x >>> TILE_SHIFT)];
+        return tile != null && (tile[y & TILE_MASK] & (1L << x)) != 0;
+    }
+
+    /**
+     * @return true if the bit was previously clear.
+     */
+    public boolean set(int x, int y) {
+        int t = (y >>> TILE_SHIFT) * tilesX + (x >>> TILE_SHIFT);
+        long[] tile = tiles[t];
+        if (tile == null) {
+            tile = new long[1 << TILE_SHIFT];
+            tiles[t] = tile;
+            allocatedTiles++;
+        }
+        int w = y & TILE_MASK;
+        long bit = 1L << x;
+        if ((tile[w] & bit) != 0) return false;
+        tile[w] |= bit;
+        return true;
+    }
+
+    /**
+     * @return true if the bit was previously set.
+     */
+    public boolean clear(int x, int y) {
+        long[] tile = tiles[(y >>> TILE_SHIFT) * tilesX + (x >>> TILE_SHIFT)];
+        if (tile == null) return false;
+        int w = y & TILE_MASK;
+        long bit = 1L << x;
+        if ((tile[w] & bit) == 0) return false;
+        tile[w] &= ~bit;
+        return true;
+    }
+
+    /**
+     * Find the next set bit in row-major order, like {@link java.util.BitSet#nextSetBit(int)}.
+     * @param fromIndex Linear index (y * cols + x) to start from, inclusive
+     * @return Linear index of the next set bit, or -1 if there are none.
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) fromIndex = 0;
+        if (fromIndex >= rows * cols) return -1;
+        int y = fromIndex / cols;
+        int x = fromIndex % cols;
+        while (y < rows) {
+            int ty = y >>> TILE_SHIFT;
+            int base = ty * tilesX;
+            boolean bandEmpty = true;
+            for (int tx = x >>> TILE_SHIFT; tx < tilesX; tx++) {
+                long[] tile = tiles[base + tx];
+                if (tile == null) continue;
+                bandEmpty = false;
+                long word = tile[y & TILE_MASK];
+                if (tx == x >>> TILE_SHIFT) word &= -1L << x;
+                if (word != 0) {
+                    return y * cols + (tx << TILE_SHIFT) + Long.numberOfTrailingZeros(word);
+                }
+            }
+            // Skip the rest of a band of unallocated tiles in one step
+            y = bandEmpty && (x >>> TILE_SHIFT) == 0 ? (ty + 1) << TILE_SHIFT : y + 1;
+            x = 0;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        Arrays.fill(tiles, null);
+        allocatedTiles = 0;
+    }
+
+    /**
+     * Make this grid an exact copy of another of the same size. Tiles already allocated here are
+     * reused, so repeatedly restoring snapshots doesn't allocate once warmed up.
+     */
+    public void copyFrom(TiledBitGrid other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("Grid is " + cols + "x" + rows + ", source is " + other.cols + "x" + other.rows);
+        }
+        for (int t = 0; t < tiles.length; t++) {
+            long[] src = other.tiles[t];
+            if (src == null) {
+                if (tiles[t] != null) Arrays.fill(tiles[t], 0L);
+            } else if (tiles[t] == null) {
+                tiles[t] = src.clone();
+                allocatedTiles++;
+            } else {
+                System.arraycopy(src, 0, tiles[t], 0, src.length);
+            }
+        }
+    }
+
+    /**
+     * @return Number of tiles currently backed by memory, out of tilesX * tilesY.
+     */
+    public int getAllocatedTiles() { return allocatedTiles; }
+}
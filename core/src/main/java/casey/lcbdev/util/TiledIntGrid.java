@@ -0,0 +1,57 @@
+package casey.lcbdev.util;
+
+import java.util.Arrays;
+
+/**
+ * Sparse 2D int map split into 64x64 tiles. Unallocated tiles read as 0,
+ * and a tile is only allocated when a non-zero value is first written into it.
+ * Coordinates passed to get/set must be in range.
+ */
+public final class TiledIntGrid {
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = 63;
+
+    private final int rows;
+    private final int cols;
+    private final int tilesX;
+    private final int[][] tiles;
+    private int allocatedTiles = 0;
+
+    public TiledIntGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.tilesX = (cols + TILE_MASK) >>> TILE_SHIFT;
+        int tilesY = (rows + TILE_MASK) >>> TILE_SHIFT;
+        this.tiles = new int[tilesX * tilesY][];
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public int get(int x, int y) {
+        int[] tile = tiles[(y >>> TILE_SHIFT) * tilesX + (x >>> TILE_SHIFT)];
+        if (tile == null) return 0;
+        return tile[((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK)];
+    }
+
+    public void set(int x, int y, int value) {
+        int t = (y >>> TILE_SHIFT) * tilesX + (x >>> TILE_SHIFT);
+        int[] tile = tiles[t];
+        if (tile == null) {
+            if (value == 0) return;
+            tile = new int[1 << (TILE_SHIFT * 2)];
+            tiles[t] = tile;
+            allocatedTiles++;
+        }
+        tile[((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK)] = value;
+    }
+
+    public void clear() {
+        Arrays.fill(tiles, null);
+        allocatedTiles = 0;
+    }
+
+    public int getAllocatedTiles() { return allocatedTiles; }
+}
@@ -0,0 +1,93 @@
+package casey.lcbdev.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+public class MetricsTest {
+    @Test
+    void testBucketsAreOrderedAndContiguous() {
+        int prev = 0;
+        for (long v : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 1 << 20, Long.MAX_VALUE }) {
+            int b = Histogram.bucketFor(v);
+            assertTrue(b >= prev);
+            assertTrue(Histogram.lowerBound(b) <= v);
+            prev = b;
+        }
+        for (int b = 0; b < 200; b++) assertEquals(b, Histogram.bucketFor(Histogram.lowerBound(b)));
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketError() {
+        Histogram h = Metrics.histogram("test.percentiles");
+        h.reset();
+        for (int v = 1; v <= 10_000; v++) h.record(v);
+        assertEquals(10_000, h.getCount());
+        assertEquals(10_000, h.getMax());
+        assertEquals(5000.5, h.getMean(), 0.01);
+        assertEquals(5000, h.getP50(), 5000 * 0.07);
+        assertEquals(9900, h.getP99(), 9900 * 0.07);
+        assertTrue(h.getPercentile(1.0) <= h.getMax());
+        assertThrows(IllegalArgumentException.class, () -> h.getPercentile(1.5));
+    }
+
+    @Test
+    void testRegistryReusesMetricsAndRegistersMBeans() throws Exception {
+        Counter c = Metrics.counter("test.counter");
+        assertSame(c, Metrics.counter("test.counter"));
+        long before = c.getCount();
+        c.increment();
+        c.add(4);
+        assertEquals(before + 5, c.getCount());
+
+        Object count = ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(new ObjectName("casey.lcbdev:type=Counter,name=test.counter"), "Count");
+        assertEquals(before + 5, count);
+        assertTrue(Metrics.report().contains("test.counter"));
+        assertThrows(IllegalArgumentException.class, () -> Metrics.counter("bad name,type=x"));
+    }
+
+    @Test
+    void testEngineRecordsMatchesAndAttacks() {
+        Counter matches = Metrics.counter(Metrics.MATCHES_STARTED);
+        Histogram attacks = Metrics.histogram(Metrics.ATTACK_NANOS);
+        long matchesBefore = matches.getCount();
+        long attacksBefore = attacks.getCount();
+
+        Histogram salvos = Metrics.histogram(Metrics.SALVO_NANOS);
+        long salvosBefore = salvos.getCount();
+
+        Player a = new Player();
+        Player b = new Player();
+        GameManager game = new GameManager(a, b, null);
+        MatchController match = game.getMatchController();
+        // Only a started game counts, and only once
+        assertEquals(matchesBefore, matches.getCount());
+        game.start();
+        game.start();
+        assertEquals(matchesBefore + 1, matches.getCount());
+
+        match.attack(a, b, 3, 3);
+        match.attack(a, b, 3, 3);
+        assertEquals(attacksBefore + 2, attacks.getCount(), "Rejected attacks are timed too");
+        match.attackSalvo(a, b, new int[] { 4,4, 5,5 }, new AttackResult[2]);
+        assertEquals(salvosBefore + 1, salvos.getCount());
+
+        Metrics.setEnabled(false);
+        try {
+            match.attack(a, b, 6, 6);
+            assertEquals(attacksBefore + 2, attacks.getCount());
+        } finally {
+            Metrics.setEnabled(true);
+        }
+    }
+}
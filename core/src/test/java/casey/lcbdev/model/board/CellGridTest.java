@@ -0,0 +1,58 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.Submarine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellGridTest {
+
+    @Test
+    void testViewsShareState() {
+        CellGrid<ShotState> grid = CellGrid.of(4, 5);
+        Cell<ShotState> a = grid.cell(3, 2);
+        Cell<ShotState> b = grid.cell(3, 2);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, grid.cell(2, 3));
+        assertNotEquals(a, CellGrid.<ShotState>of(4, 5).cell(3, 2));
+        assertNull(grid.cell(5, 0));
+
+        assertTrue(a.setOccupant(ShotState.MISS));
+        assertTrue(b.isOccupied());
+        assertEquals(ShotState.MISS, b.getOccupant());
+        b.setOccupiable(false);
+        assertFalse(a.setOccupant(ShotState.HIT));
+        assertEquals(ShotState.MISS, a.getOccupant());
+        b.clearOccupant();
+        assertFalse(a.isOccupied());
+        assertNull(a.getOccupant());
+    }
+
+    @Test
+    void testShipsOnGridCells() {
+        CellGrid<Ship> grid = CellGrid.ofShips(10, 10);
+        List<Integer> changed = new ArrayList<>();
+        grid.setChangeListener(changed::add);
+
+        ShipCell[] cells = { (ShipCell) grid.cell(2, 1), (ShipCell) grid.cell(3, 1), (ShipCell) grid.cell(4, 1) };
+        Ship ship = new Submarine(cells);
+        assertEquals(List.of(12, 13, 14), changed);
+
+        ShipCell fresh = (ShipCell) grid.cell(3, 1);
+        assertSame(ship, fresh.getOccupant());
+        assertEquals(1, fresh.getSegment());
+        assertTrue(ship.markHit(fresh));
+        assertTrue(cells[1].isHit());
+        assertFalse(ship.markHit(new ShipCell(3, 1)));
+
+        fresh.setIncomingShot(ShotState.MISS);
+        assertEquals(ShotState.MISS, cells[1].getIncomingShot());
+        assertEquals(ShotState.UNKNOWN, cells[0].getIncomingShot());
+        assertThrows(IllegalStateException.class, () -> fresh.setChangeListener(c -> {}));
+    }
+}
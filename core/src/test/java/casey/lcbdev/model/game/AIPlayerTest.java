@@ -0,0 +1,51 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class AIPlayerTest {
+    @Test
+    void testAttacksCoverBoardExactlyOnce() {
+        AIPlayer ai = new AIPlayer(7, 9);
+        Set<Integer> seen = new HashSet<>();
+        AIPlayer.Coord c;
+        while ((c = ai.pickNextAttack()) != null) {
+            assertTrue(c.x >= 0 && c.x < 9 && c.y >= 0 && c.y < 7);
+            assertTrue(seen.add(c.y * 9 + c.x));
+        }
+        assertEquals(63, seen.size());
+        assertNull(ai.pickNextAttack());
+    }
+
+    @Test
+    void testLargeBoardPlacementAndAttack() {
+        AIPlayer ai = new AIPlayer(10_000, 10_000);
+        ai.placeAllShipsRandomly();
+        assertTrue(ai.getPlayerModel().allPlaced());
+
+        Player attacker = new Player(10_000, 10_000);
+        MatchController match = new MatchController(attacker, ai.getPlayerModel(), attacker, 10_000, 10_000);
+        AIPlayer.Coord c = ai.pickNextAttack();
+        assertFalse(match.attack(attacker, ai.getPlayerModel(), c.x, c.y).type == AttackResult.Type.INVALID);
+        assertTrue(match.getShotsAt(ai.getPlayerModel()).isShot(c.x, c.y));
+    }
+
+    @Test
+    void testCrowdedBoardPlacement() {
+        for (int seed = 0; seed < 200; seed++) {
+            AIPlayer ai = new AIPlayer(4, 5, new SplittableRandom(seed));
+            ai.placeAllShipsRandomly();
+            assertTrue(ai.getPlayerModel().allPlaced());
+        }
+        assertThrows(IllegalStateException.class, () -> new AIPlayer(4, 4).placeAllShipsRandomly());
+    }
+}
@@ -0,0 +1,48 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class DensityTargetingTest {
+    @Test
+    void testMissLowersNeighbourDensity() {
+        DensityTargeting ai = new DensityTargeting(10, 10, new SplittableRandom(1));
+        int before = ai.densityAt(5, 4);
+        ai.onResult(5, 5, AttackResult.miss());
+        assertTrue(ai.densityAt(5, 4) < before);
+        assertEquals(0, ai.densityAt(5, 5));
+    }
+
+    @Test
+    void testHitSwitchesToTargetMode() {
+        DensityTargeting ai = new DensityTargeting(10, 10, new SplittableRandom(1));
+        ai.onResult(4, 4, AttackResult.hit("battleship"));
+        AIPlayer.Coord next = ai.nextAttack();
+        assertNotNull(next);
+        assertEquals(1, Math.abs(next.x - 4) + Math.abs(next.y - 4));
+    }
+
+    @Test
+    void testFullGameAgainstMatchController() {
+        AIPlayer defender = new AIPlayer(10, 10, new SplittableRandom(3));
+        defender.placeAllShipsRandomly();
+        AIPlayer attacker = new AIPlayer(10, 10, new SplittableRandom(4));
+        attacker.setTargeting(DensityTargeting::new);
+
+        MatchController match = new MatchController(attacker.getPlayerModel(), defender.getPlayerModel(), attacker.getPlayerModel());
+        int shots = 0;
+        while (!match.isAllSunk(defender.getPlayerModel())) {
+            AIPlayer.Coord c = attacker.pickNextAttack();
+            AttackResult r = match.attack(attacker.getPlayerModel(), defender.getPlayerModel(), c.x, c.y);
+            assertTrue(r.type != AttackResult.Type.ALREADY && r.type != AttackResult.Type.INVALID);
+            attacker.recordResult(c.x, c.y, r);
+            shots++;
+        }
+        assertTrue(shots < 100);
+    }
+}
@@ -0,0 +1,109 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.board.ShotState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class GameManagerTest {
+    @Test
+    void testSalvoTurnPassesToAIWhichFiresOneSalvo() {
+        AIPlayer local = new AIPlayer(10, 10, new Random(1));
+        local.placeAllShipsRandomly();
+        AIPlayer ai = new AIPlayer(10, 10, new Random(2));
+        ai.placeAllShipsRandomly();
+
+        GameManager gm = new GameManager(local.getPlayerModel(), ai.getPlayerModel(), new AIOpponentHandler(ai));
+        gm.setSalvoSize(3);
+        List<String> salvos = new ArrayList<>();
+        gm.setBoardUpdater(new GameManager.BoardUpdater() {
+            @Override public void updateLocalShipCell(int x, int y) {}
+            @Override public void updateOpponentShotCell(int x, int y, ShotState state) {}
+            @Override public void showStatus(String message) {}
+            @Override public void onGameOver(boolean localPlayerWon) {}
+
+            @Override
+            public void updateSalvo(int[] coords, AttackResult[] results, int shots, boolean local) {
+                salvos.add((local ? "local " : "opponent ") + shots);
+            }
+        });
+
+        gm.handleLocalSalvo(new int[] { 0,0, 1,1, 2,2 });
+
+        // One batched update each way, and the turn is back with the local player
+        assertEquals(List.of("local 3", "opponent 3"), salvos);
+        assertTrue(gm.isLocalPlayerTurn());
+    }
+
+    @Test
+    void testRemotelyResolvedShotIsAppliedWhenTheResultArrives() {
+        AIPlayer local = new AIPlayer(10, 10, new Random(1));
+        local.placeAllShipsRandomly();
+        List<int[]> requested = new ArrayList<>();
+        List<GameManager.ShotResultCallback> callbacks = new ArrayList<>();
+        GameManager.RemoteResolvingOpponent remote = new GameManager.RemoteResolvingOpponent() {
+            @Override public void executeOpponentTurn(GameManager.OpponentMoveCallback callback) {}
+            @Override public boolean shouldAutoExecuteTurn() { return true; }
+
+            @Override
+            public void requestResolution(int[] coords, GameManager.ShotResultCallback callback) {
+                requested.add(coords);
+                callbacks.add(callback);
+            }
+        };
+
+        // The opponent's fleet is unknown here
+        GameManager gm = new GameManager(local.getPlayerModel(), new Player(10, 10), remote);
+        List<String> shots = new ArrayList<>();
+        gm.setBoardUpdater(new GameManager.BoardUpdater() {
+            @Override public void updateLocalShipCell(int x, int y) {}
+            @Override public void updateOpponentShotCell(int x, int y, ShotState state) { shots.add(x + "," + y + " " + state); }
+            @Override public void showStatus(String message) {}
+            @Override public void onGameOver(boolean localPlayerWon) {}
+        });
+
+        gm.handleLocalAttack(4, 5);
+        gm.handleLocalAttack(6, 6);
+        assertEquals(1, requested.size(), "A second shot waits for the first result");
+        assertTrue(shots.isEmpty());
+
+        callbacks.get(0).reportResult(4, 5, AttackResult.hit("carrier"));
+        assertEquals(List.of("4,5 HIT"), shots);
+        assertTrue(gm.isLocalPlayerTurn());
+
+        gm.handleLocalAttack(4, 5);
+        assertEquals(1, requested.size(), "Repeats are caught without asking the opponent");
+
+        gm.handleLocalAttack(0, 0);
+        callbacks.get(1).reportResult(0, 0, AttackResult.miss());
+        assertEquals(List.of("4,5 HIT", "0,0 MISS"), shots);
+        assertFalse(gm.isLocalPlayerTurn());
+    }
+
+    @Test
+    void testRejectedOpponentShotsAreStillAnswered() {
+        AIPlayer local = new AIPlayer(10, 10, new Random(1));
+        local.placeAllShipsRandomly();
+        List<String> answers = new ArrayList<>();
+        GameManager.OpponentHandler remote = new GameManager.OpponentHandler() {
+            @Override public void executeOpponentTurn(GameManager.OpponentMoveCallback callback) {}
+            @Override public boolean shouldAutoExecuteTurn() { return false; }
+
+            @Override
+            public void onAttackResolved(int x, int y, AttackResult result) {
+                answers.add(x + "," + y + " " + result.type);
+            }
+        };
+
+        GameManager gm = new GameManager(local.getPlayerModel(), new Player(10, 10), remote);
+        // The local player moves first, so both arrive out of turn
+        gm.handleOpponentAttack(1, 2);
+        gm.handleOpponentSalvo(new int[] { 3,4, 5,6 });
+        assertEquals(List.of("1,2 INVALID", "3,4 INVALID", "5,6 INVALID"), answers);
+    }
+}
@@ -0,0 +1,78 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.ships.Destroyer;
+
+public class MatchControllerTest {
+    @Test
+    void testShotsAreTrackedPerDefender() {
+        Player a = new Player();
+        Player b = new Player();
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(1,0), new ShipCell(2,0) };
+        assertTrue(b.addShip("destroyer", new Destroyer(cells)));
+
+        MatchController match = new MatchController(a, b, a);
+        assertEquals(AttackResult.Type.HIT, match.attack(a, b, 1, 0).type);
+        assertEquals(AttackResult.Type.ALREADY, match.attack(a, b, 1, 0).type);
+        assertEquals(AttackResult.Type.INVALID, match.attack(a, b, 10, 0).type);
+
+        ShotView shots = match.getShotsAt(b);
+        assertTrue(shots.isShot(1, 0));
+        assertFalse(shots.isShot(0, 0));
+        assertEquals(1, shots.getShotCount());
+        assertEquals(1, shots.nextShot(0));
+        assertEquals(-1, shots.nextShot(2));
+        assertEquals(0, match.getShotsAt(a).getShotCount());
+    }
+
+    @Test
+    void testSalvoResolvesEachShotInOrder() {
+        Player a = new Player();
+        Player b = new Player();
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(1,0), new ShipCell(2,0) };
+        assertTrue(b.addShip("destroyer", new Destroyer(cells)));
+
+        MatchController match = new MatchController(a, b, a);
+        int[] coords = { 0,0, 5,5, 0,0, 10,0, 1,0, 2,0 };
+        AttackResult[] out = new AttackResult[6];
+        assertEquals(4, match.attackSalvo(a, b, coords, out));
+
+        assertEquals(AttackResult.Type.HIT, out[0].type);
+        assertEquals(AttackResult.Type.MISS, out[1].type);
+        assertEquals(AttackResult.Type.ALREADY, out[2].type);
+        assertEquals(AttackResult.Type.INVALID, out[3].type);
+        assertEquals(AttackResult.Type.HIT, out[4].type);
+        assertEquals(AttackResult.Type.SUNK, out[5].type);
+        assertEquals("destroyer", out[5].shipKey);
+        assertTrue(match.isAllSunk(b));
+
+        // Out of turn: nothing is fired
+        assertEquals(0, match.attackSalvo(b, a, new int[] { 1,1 }, out));
+        assertEquals(AttackResult.Type.INVALID, out[0].type);
+        assertEquals(0, match.getShotsAt(a).getShotCount());
+    }
+
+    @Test
+    void testResetRepairsShips() {
+        Player a = new Player();
+        Player b = new Player();
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(1,0), new ShipCell(2,0) };
+        assertTrue(b.addShip("destroyer", new Destroyer(cells)));
+
+        MatchController match = new MatchController(a, b, a);
+        match.attack(a, b, 0, 0);
+        match.attack(a, b, 1, 0);
+        assertEquals(AttackResult.Type.SUNK, match.attack(a, b, 2, 0).type);
+        assertTrue(match.isAllSunk(b));
+
+        match.reset(a);
+        assertFalse(match.isAllSunk(b));
+        assertEquals(AttackResult.Type.HIT, match.attack(a, b, 0, 0).type);
+    }
+}
@@ -0,0 +1,77 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class MonteCarloTargetingTest {
+    @Test
+    void testFullGameWithinBudget() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            AIPlayer defender = new AIPlayer(10, 10, new SplittableRandom(3));
+            defender.placeAllShipsRandomly();
+            AIPlayer attacker = new AIPlayer(10, 10, new SplittableRandom(4));
+            attacker.setTargeting(MonteCarloTargeting.factory(pool, 2, 2, TimeUnit.MILLISECONDS));
+
+            Player a = attacker.getPlayerModel();
+            Player d = defender.getPlayerModel();
+            MatchController match = new MatchController(a, d, a);
+            int shots = 0;
+            long slowest = 0;
+            while (!match.isAllSunk(d)) {
+                long start = System.nanoTime();
+                AIPlayer.Coord c = attacker.pickNextAttack();
+                slowest = Math.max(slowest, System.nanoTime() - start);
+                assertNotNull(c);
+                AttackResult r = match.attack(a, d, c.x, c.y);
+                assertTrue(r.type != AttackResult.Type.ALREADY && r.type != AttackResult.Type.INVALID);
+                attacker.recordResult(c.x, c.y, r);
+                shots++;
+            }
+            assertTrue(shots < 100);
+            assertTrue(slowest < TimeUnit.MILLISECONDS.toNanos(250), "move took " + slowest + "ns");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAttemptBudgetIsReproducible() {
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            TargetingStrategy.Factory factory = MonteCarloTargeting.factory(pool, 3, 50);
+            assertEquals(playOut(factory), playOut(factory));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // The attacker's shots, in order, over a whole game with fixed seeds
+    private static List<String> playOut(TargetingStrategy.Factory factory) {
+        AIPlayer defender = new AIPlayer(10, 10, new SplittableRandom(3));
+        defender.placeAllShipsRandomly();
+        AIPlayer attacker = new AIPlayer(10, 10, new SplittableRandom(4));
+        attacker.setTargeting(factory);
+
+        Player a = attacker.getPlayerModel();
+        Player d = defender.getPlayerModel();
+        MatchController match = new MatchController(a, d, a);
+        List<String> shots = new ArrayList<>();
+        while (!match.isAllSunk(d)) {
+            AIPlayer.Coord c = attacker.pickNextAttack();
+            attacker.recordResult(c.x, c.y, match.attack(a, d, c.x, c.y));
+            shots.add(c.x + "," + c.y);
+        }
+        return shots;
+    }
+}
@@ -0,0 +1,25 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PlacementTableTest {
+    @Test
+    void testCacheIsBounded() {
+        for (int rows = 1; rows <= 2 * PlacementTable.MAX_CACHED; rows++) {
+            // A single cell fits everywhere, once each way
+            assertEquals(2 * rows * 10, PlacementTable.forShip(1, rows, 10).size());
+        }
+        assertTrue(PlacementTable.cachedCount() <= PlacementTable.MAX_CACHED);
+    }
+
+    @Test
+    void testWideBoardsDoNotShareTables() {
+        // Used to share a cache key with the 1x1 board
+        int cols = (1 << 21) + 1;
+        assertEquals(cols - 1, PlacementTable.forShip(2, 1, cols).size());
+        assertEquals(0, PlacementTable.forShip(2, 1, 1).size());
+    }
+}
@@ -0,0 +1,57 @@
+package casey.lcbdev.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.model.ships.ShipRegistry;
+
+public class PlayerTest {
+    @Test
+    void testAddAndCheckAllPlaced() {
+        Player player = new Player();
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(0,1), new ShipCell(0,2) };
+        Ship ship = new Ship("destroyer",3,cells);
+        assertTrue(player.addShip("destroyer", ship));
+        assertFalse(player.allPlaced());
+    }
+
+    @Test
+    void testFleetIndexLookupAndOverlap() {
+        Player player = new Player();
+        ShipCell[] cells = { new ShipCell(2,4), new ShipCell(3,4), new ShipCell(4,4) };
+        assertTrue(player.addShip("submarine", new Ship("submarine",3,cells)));
+
+        int code = player.fleetCodeAt(3, 4);
+        assertEquals(ShipRegistry.idFor("submarine"), FleetIndex.shipId(code));
+        assertEquals(1, FleetIndex.segment(code));
+        assertEquals(FleetIndex.EMPTY, player.fleetCodeAt(5, 4));
+
+        ShipCell[] overlapping = { new ShipCell(4,3), new ShipCell(4,4), new ShipCell(4,5) };
+        assertFalse(player.addShip("destroyer", new Ship("destroyer",3,overlapping)));
+
+        player.removeShip("submarine");
+        assertEquals(FleetIndex.EMPTY, player.fleetCodeAt(3, 4));
+    }
+
+    @Test
+    void testLiveShipCountTracksSinking() {
+        Player player = new Player();
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(1,0) };
+        Ship boat = new Ship("patrolboat",2,cells);
+        assertTrue(player.addShip("patrolboat", boat));
+        assertEquals(1, player.liveShipCount());
+        assertFalse(player.isFleetSunk());
+
+        boat.markHit(0);
+        boat.markHit(0);
+        assertEquals(1, player.liveShipCount());
+        boat.markHit(1);
+        assertEquals(0, player.liveShipCount());
+        assertTrue(player.isFleetSunk());
+    }
+}
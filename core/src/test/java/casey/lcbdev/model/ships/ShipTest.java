@@ -31,4 +31,22 @@ class ShipTest {
         assertTrue(ship.markHit(cells[2]));
         assertTrue(ship.isSunk());
     }
+
+    @Test
+    void testCellsKnowTheirSegment() {
+        ShipCell[] cells = { new ShipCell(0,0), new ShipCell(0,1), new ShipCell(0,2) };
+        Ship ship = new Submarine(cells);
+        int[] changes = {0};
+        cells[1].setChangeListener(c -> changes[0]++);
+
+        for (int i = 0; i < cells.length; i++) assertEquals(i, cells[i].getSegment());
+        assertFalse(ship.markHit(new ShipCell(0,1)));
+        assertTrue(ship.markHit(cells[1]));
+        assertTrue(ship.markHit(cells[1]));
+        assertEquals(1, changes[0]);
+
+        cells[1].clearOccupant();
+        assertEquals(-1, cells[1].getSegment());
+        assertEquals(2, changes[0]);
+    }
 }
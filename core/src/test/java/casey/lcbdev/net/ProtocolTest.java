@@ -0,0 +1,63 @@
+package casey.lcbdev.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.game.AttackResult;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolTest {
+    @Test
+    void testResultRoundTrip() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(64);
+        Protocol.writeResult(buf, 3, 7, AttackResult.sunk("carrier"));
+        buf.flip();
+
+        int total = Protocol.frameLength(buf);
+        assertEquals(buf.remaining(), total);
+        buf.position(Protocol.LENGTH_BYTES);
+        assertEquals(Protocol.RESULT, buf.get());
+
+        assertEquals(3, WireCodec.getVarint(buf));
+        assertEquals(7, WireCodec.getVarint(buf));
+        AttackResult result = WireCodec.getResult(buf);
+        assertEquals(AttackResult.Type.SUNK, result.type);
+        assertEquals("carrier", result.shipKey);
+    }
+
+    @Test
+    void testFrameLengthWaitsForWholeFrame() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(16);
+        Protocol.writeAttack(buf, 3, 4);
+        int written = buf.position();
+
+        buf.flip().limit(written - 1);
+        assertEquals(-1, Protocol.frameLength(buf));
+        buf.limit(written);
+        assertEquals(written, Protocol.frameLength(buf));
+
+        ByteBuffer bad = ByteBuffer.allocate(4).putShort((short) 0).flip();
+        assertThrows(ProtocolException.class, () -> Protocol.frameLength(bad));
+    }
+
+    @Test
+    void testSalvoSizeIsBounded() {
+        ByteBuffer huge = ByteBuffer.allocate(16);
+        WireCodec.putVarint(huge, 1 << 30);
+        huge.put(new byte[4]).flip();
+        assertThrows(ProtocolException.class, () -> Protocol.readSalvo(huge));
+
+        int[] coords = new int[2 * (Protocol.MAX_SALVO + 1)];
+        ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_FRAME);
+        assertThrows(IllegalArgumentException.class, () -> Protocol.writeSalvo(out, coords, coords.length / 2));
+
+        // The largest salvo still fits in one frame on the largest board
+        Arrays.fill(coords, Protocol.MAX_BOARD_SIDE - 1);
+        Protocol.writeSalvo(out, coords, Protocol.MAX_SALVO);
+        assertTrue(out.position() <= Protocol.MAX_FRAME);
+    }
+}
@@ -0,0 +1,118 @@
+package casey.lcbdev.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.ShotBoard;
+import casey.lcbdev.model.ships.ShipRegistry;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class WireCodecTest {
+    @Test
+    void testVarintRoundTrip() throws Exception {
+        int[] values = { 0, 1, 127, 128, 16383, 16384, 65535, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+        ByteBuffer buf = ByteBuffer.allocate(values.length * WireCodec.MAX_VARINT_BYTES);
+        for (int v : values) {
+            int before = buf.position();
+            WireCodec.putVarint(buf, v);
+            assertEquals(WireCodec.varintSize(v), buf.position() - before);
+        }
+        buf.flip();
+        for (int v : values) assertEquals(v, WireCodec.getVarint(buf));
+
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[] { (byte) 0x80 });
+        assertThrows(ProtocolException.class, () -> WireCodec.getVarint(truncated));
+    }
+
+    @Test
+    void testResultsFitInOneByteAndDecodeToSharedInstances() throws Exception {
+        for (AttackResult.Type type : AttackResult.Type.values()) {
+            for (int id = -1; id < ShipRegistry.count(); id++) {
+                AttackResult original = new AttackResult(type, ShipRegistry.keyFor(id));
+                byte code = WireCodec.encodeResult(original);
+                AttackResult decoded = WireCodec.decodeResult(code);
+                assertEquals(type, decoded.type);
+                assertEquals(original.shipKey, decoded.shipKey);
+                assertEquals(type.ordinal(), WireCodec.resultType(code));
+                assertEquals(id, WireCodec.resultShip(code));
+                assertSame(decoded, WireCodec.decodeResult(code));
+            }
+        }
+        assertThrows(ProtocolException.class, () -> WireCodec.decodeResult((byte) 0xFF));
+    }
+
+    @Test
+    void testShotSnapshotRoundTrip() throws Exception {
+        // Sparse and dense boards take different encodings
+        for (int shots : new int[] { 0, 3, 60, 400 }) {
+            ShotBoard original = new ShotBoard(17, 23);
+            SplittableRandom rnd = new SplittableRandom(shots);
+            for (int i = 0; i < shots; i++) original.mark(rnd.nextInt(23), rnd.nextInt(17));
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(WireCodec.shotsSize(original));
+            WireCodec.putShots(buf, original);
+            buf.flip();
+
+            ShotBoard copy = new ShotBoard(17, 23);
+            WireCodec.getShots(buf, copy);
+            assertFalse(buf.hasRemaining());
+            assertEquals(original.getShotCount(), copy.getShotCount());
+            for (int i = original.nextShot(0); i >= 0; i = original.nextShot(i + 1)) {
+                assertTrue(copy.isShot(i % 23, i / 23));
+            }
+        }
+    }
+
+    @Test
+    void testSweptBoardUsesRunLengths() throws Exception {
+        // Every other row fully shot: far smaller as runs than as a bitboard or index list
+        ShotBoard original = new ShotBoard(200, 200);
+        for (int y = 0; y < 200; y += 2) {
+            for (int x = 0; x < 200; x++) original.mark(x, y);
+        }
+        ByteBuffer buf = ByteBuffer.allocate(WireCodec.shotsSize(original));
+        WireCodec.putShots(buf, original);
+        assertTrue(buf.position() < 500, "encoded " + buf.position() + " bytes");
+        buf.flip();
+
+        ShotBoard copy = new ShotBoard(200, 200);
+        WireCodec.getShots(buf, copy);
+        assertEquals(original.getShotCount(), copy.getShotCount());
+        assertTrue(copy.isShot(199, 198));
+        assertFalse(copy.isShot(0, 199));
+    }
+
+    @Test
+    void testSnapshotSizeMismatchIsRejected() {
+        ShotBoard original = new ShotBoard(10, 10);
+        original.mark(1, 1);
+        ByteBuffer buf = ByteBuffer.allocate(WireCodec.shotsSize(original));
+        WireCodec.putShots(buf, original);
+        buf.flip();
+        assertThrows(ProtocolException.class, () -> WireCodec.getShots(buf, new ShotBoard(10, 11)));
+    }
+
+    @Test
+    void testBufferPoolReusesReleasedBuffers() {
+        BufferPool pool = new BufferPool(64, 1);
+        ByteBuffer a = pool.acquire();
+        ByteBuffer b = pool.acquire();
+        assertTrue(a.isDirect());
+        a.put((byte) 1);
+        pool.release(a);
+        pool.release(b);
+        assertEquals(1, pool.getPooledCount());
+
+        ByteBuffer c = pool.acquire();
+        assertSame(a, c);
+        assertEquals(0, c.position());
+        assertEquals(0, pool.getPooledCount());
+    }
+}
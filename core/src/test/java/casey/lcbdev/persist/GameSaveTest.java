@@ -0,0 +1,114 @@
+package casey.lcbdev.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.game.AIPlayer;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.ShotView;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class GameSaveTest {
+    private static GameManager playedGame(int size, int shots) {
+        AIPlayer local = new AIPlayer(size, size, new SplittableRandom(1));
+        AIPlayer remote = new AIPlayer(size, size, new SplittableRandom(2));
+        local.placeAllShipsRandomly();
+        remote.placeAllShipsRandomly();
+        GameManager game = new GameManager(local.getPlayerModel(), remote.getPlayerModel(), null, size, size);
+
+        SplittableRandom rnd = new SplittableRandom(3);
+        for (int i = 0; i < shots && !game.isGameOver(); i++) {
+            int x = rnd.nextInt(size);
+            int y = rnd.nextInt(size);
+            if (game.isLocalPlayerTurn()) game.handleLocalAttack(x, y);
+            else game.handleOpponentAttack(x, y);
+        }
+        return game;
+    }
+
+    private static void assertSameGame(GameManager expected, GameManager actual) {
+        assertEquals(expected.isLocalPlayerTurn(), actual.isLocalPlayerTurn());
+        assertEquals(expected.getSalvoSize(), actual.getSalvoSize());
+        assertEquals(expected.getLocalPlayer().liveShipCount(), actual.getLocalPlayer().liveShipCount());
+        assertEquals(expected.getOpponentPlayer().liveShipCount(), actual.getOpponentPlayer().liveShipCount());
+        MatchController e = expected.getMatchController();
+        MatchController a = actual.getMatchController();
+        assertSameShots(e.getShotsAt(expected.getLocalPlayer()), a.getShotsAt(actual.getLocalPlayer()));
+        assertSameShots(e.getShotsAt(expected.getOpponentPlayer()), a.getShotsAt(actual.getOpponentPlayer()));
+    }
+
+    private static void assertSameShots(ShotView expected, ShotView actual) {
+        assertEquals(expected.getShotCount(), actual.getShotCount());
+        for (int i = expected.nextShot(0); i >= 0; i = expected.nextShot(i + 1)) {
+            assertTrue(actual.isShot(i % expected.getCols(), i / expected.getCols()));
+        }
+    }
+
+    @Test
+    void testSmallBoardSavesCompactly() throws Exception {
+        GameManager game = playedGame(10, 40);
+        ByteBuffer bytes = GameSave.capture(game).encode();
+        assertTrue(bytes.remaining() < 200, "save is " + bytes.remaining() + " bytes");
+
+        GameManager restored = GameSave.decode(bytes).restore(null);
+        assertFalse(bytes.hasRemaining());
+        assertSameGame(game, restored);
+    }
+
+    @Test
+    void testSaveAndLoadThroughFile() throws Exception {
+        Path dir = Files.createTempDirectory("save-test");
+        Path file = dir.resolve("game" + GameSave.SUFFIX);
+        try {
+            GameManager game = playedGame(300, 5000);
+            GameSave.save(game, file).get(10, TimeUnit.SECONDS);
+            // Overwriting keeps a single file
+            GameSave.save(game, file).get(10, TimeUnit.SECONDS);
+            try (var files = Files.list(dir)) {
+                assertEquals(1, files.count());
+            }
+
+            GameSave loaded = GameSave.load(file).get(10, TimeUnit.SECONDS);
+            assertEquals(300, loaded.getRows());
+            assertSameGame(game, loaded.restore(null));
+
+            Files.write(file, new byte[] { 1, 2, 3 });
+            ExecutionException e = assertThrows(ExecutionException.class, () -> GameSave.load(file).get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IOException);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    void testDecodeRejectsForeignData() {
+        assertThrows(ProtocolException.class, () -> GameSave.decode(ByteBuffer.wrap(new byte[] { 0, 0, 0, 0, 3 })));
+    }
+
+    @Test
+    void testGameAgainstRemotelyResolvingOpponentIsNotSaved() {
+        AIPlayer local = new AIPlayer(10, 10, new SplittableRandom(1));
+        local.placeAllShipsRandomly();
+        GameManager.RemoteResolvingOpponent remote = new GameManager.RemoteResolvingOpponent() {
+            @Override public void executeOpponentTurn(GameManager.OpponentMoveCallback callback) {}
+            @Override public boolean shouldAutoExecuteTurn() { return false; }
+            @Override public void requestResolution(int[] coords, GameManager.ShotResultCallback callback) {}
+        };
+        // The opponent's fleet stays with them, so a save would lose every hit on it
+        GameManager game = new GameManager(local.getPlayerModel(), new Player(10, 10), remote, 10, 10);
+        assertThrows(IllegalStateException.class, () -> GameSave.capture(game));
+    }
+}
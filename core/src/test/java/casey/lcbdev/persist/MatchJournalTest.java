@@ -0,0 +1,192 @@
+package casey.lcbdev.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.game.AttackResult;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.ships.Destroyer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MatchJournalTest {
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    private static MatchController newMatch() {
+        Player a = new Player();
+        Player b = new Player();
+        assertTrue(a.addShip("destroyer", new Destroyer(new ShipCell[] { new ShipCell(0,0), new ShipCell(1,0), new ShipCell(2,0) })));
+        assertTrue(b.addShip("destroyer", new Destroyer(new ShipCell[] { new ShipCell(4,4), new ShipCell(4,5), new ShipCell(4,6) })));
+        return new MatchController(a, b, b);
+    }
+
+    @Test
+    void testStartedGameIsJournaledAndResumable() throws IOException {
+        MatchController match = newMatch();
+        MatchJournals.setDirectory(dir);
+        GameManager game;
+        try {
+            game = new GameManager(match.getPlayerA(), match.getPlayerB(), null);
+            game.start();
+        } finally {
+            MatchJournals.setDirectory(null);
+        }
+        assertNotNull(game.getJournal());
+        game.handleLocalAttack(9, 9);
+        // Simulate a crash: the journal is never closed
+
+        List<MatchJournal> recovered = MatchJournal.recoverAll(dir);
+        assertEquals(1, recovered.size());
+        GameManager resumed = GameManager.resume(recovered.get(0), null);
+        assertFalse(resumed.isLocalPlayerTurn());
+        assertTrue(resumed.getMatchController().getShotsAt(resumed.getOpponentPlayer()).isShot(9, 9));
+        recovered.get(0).close();
+        game.getJournal().close();
+    }
+
+    @Test
+    void testJournalsLeaveTheDirectoryOnceDealtWith() throws IOException {
+        MatchJournals.setDirectory(dir);
+        try {
+            MatchController played = newMatch();
+            GameManager game = new GameManager(played.getPlayerA(), played.getPlayerB(), null);
+            game.start();
+            Path playedFile = game.getJournal().getFile();
+            for (int y = 4; y <= 6; y++) game.handleLocalAttack(4, y);
+            assertTrue(game.isGameOver());
+            assertFalse(Files.exists(playedFile), "A finished match's journal is deleted");
+
+            // Left by crashes: one match cut short, one that finished but was never deleted, one unreadable
+            MatchJournal crashed = MatchJournals.start(newMatch());
+            MatchController done = newMatch();
+            MatchJournal finished = MatchJournal.create(dir.resolve("done" + MatchJournal.SUFFIX), done);
+            for (int x = 0; x < 3; x++) done.attack(done.getPlayerB(), done.getPlayerA(), x, 0);
+            finished.close();
+            Files.write(dir.resolve("junk" + MatchJournal.SUFFIX), new byte[] { 1, 2, 3, 4, 5, 6 });
+
+            List<MatchJournal> recovered = MatchJournals.recoverUnfinished();
+            assertEquals(1, recovered.size());
+            assertFalse(Files.exists(dir.resolve("done" + MatchJournal.SUFFIX)));
+            assertTrue(Files.exists(dir.resolve(MatchJournals.SET_ASIDE_DIR).resolve("junk" + MatchJournal.SUFFIX)));
+
+            Path aside = MatchJournals.setAside(recovered.get(0));
+            assertEquals(dir.resolve(MatchJournals.SET_ASIDE_DIR).resolve(crashed.getFile().getFileName()), aside);
+            assertTrue(MatchJournals.recoverUnfinished().isEmpty(), "Nothing is recovered twice");
+            crashed.close();
+        } finally {
+            MatchJournals.setDirectory(null);
+        }
+    }
+
+    @Test
+    void testRecoverRebuildsUnfinishedMatch() throws IOException {
+        MatchController match = newMatch();
+        Player a = match.getPlayerA();
+        Player b = match.getPlayerB();
+        MatchJournal journal = MatchJournal.create(dir.resolve("m1" + MatchJournal.SUFFIX), match);
+        match.attack(b, a, 0, 0);
+        match.attack(b, a, 5, 5);
+        match.endTurn();
+        match.attack(a, b, 4, 5);
+        // Simulate a crash: the journal is never closed
+
+        List<MatchJournal> recovered = MatchJournal.recoverAll(dir);
+        assertEquals(1, recovered.size());
+        MatchController copy = recovered.get(0).getMatch();
+        assertFalse(recovered.get(0).isFinished());
+        assertSame(copy.getPlayerA(), copy.getCurrentPlayer());
+        assertEquals(2, copy.getShotsAt(copy.getPlayerA()).getShotCount());
+        assertTrue(copy.getShotsAt(copy.getPlayerA()).isShot(5, 5));
+        assertTrue(copy.getShotsAt(copy.getPlayerB()).isShot(4, 5));
+
+        // The recovered journal keeps appending where the old one stopped
+        copy.attack(copy.getPlayerA(), copy.getPlayerB(), 4, 4);
+        recovered.get(0).close();
+        journal.close();
+        MatchJournal again = MatchJournal.recover(dir.resolve("m1" + MatchJournal.SUFFIX));
+        assertEquals(2, again.getMatch().getShotsAt(again.getMatch().getPlayerB()).getShotCount());
+        again.close();
+    }
+
+    @Test
+    void testTornTailIsDropped() throws IOException {
+        MatchController match = newMatch();
+        Path file = dir.resolve("torn" + MatchJournal.SUFFIX);
+        MatchJournal journal = MatchJournal.create(file, match);
+        match.attack(match.getPlayerB(), match.getPlayerA(), 1, 0);
+        int length = journal.getLength();
+        journal.close();
+
+        // An attack record whose coordinate never made it to disk
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[] { 1, 1, (byte) 0x80 }), length);
+        }
+        MatchJournal recovered = MatchJournal.recover(file);
+        assertEquals(length, recovered.getLength());
+        assertEquals(1, recovered.getMatch().getShotsAt(recovered.getMatch().getPlayerA()).getShotCount());
+
+        // New records overwrite the torn one and read back cleanly
+        MatchController copy = recovered.getMatch();
+        assertEquals(AttackResult.Type.MISS, copy.attack(copy.getPlayerB(), copy.getPlayerA(), 9, 9).type);
+        recovered.close();
+        MatchJournal again = MatchJournal.recover(file);
+        assertEquals(2, again.getMatch().getShotsAt(again.getMatch().getPlayerA()).getShotCount());
+        again.close();
+    }
+
+    @Test
+    void testFinishedMatchIsNotRecovered() throws IOException {
+        MatchController match = newMatch();
+        MatchJournal journal = MatchJournal.create(dir.resolve("done" + MatchJournal.SUFFIX), match);
+        for (int x = 0; x < 3; x++) match.attack(match.getPlayerB(), match.getPlayerA(), x, 0);
+        assertTrue(match.isGameOver());
+        assertTrue(journal.isFinished());
+        journal.close();
+
+        assertTrue(MatchJournal.recoverAll(dir).isEmpty());
+        MatchJournal recovered = MatchJournal.recover(dir.resolve("done" + MatchJournal.SUFFIX));
+        assertTrue(recovered.isFinished());
+        assertSame(recovered.getMatch().getPlayerB(), recovered.getMatch().getWinner());
+        recovered.close();
+    }
+
+    @Test
+    void testCreateRejectsStartedMatchAndExistingFile() throws IOException {
+        MatchController match = newMatch();
+        Path file = dir.resolve("x" + MatchJournal.SUFFIX);
+        MatchJournal.create(file, match).close();
+        assertThrows(IOException.class, () -> MatchJournal.create(file, newMatch()));
+
+        match.attack(match.getPlayerB(), match.getPlayerA(), 0, 0);
+        assertThrows(IllegalStateException.class, () -> MatchJournal.create(dir.resolve("y" + MatchJournal.SUFFIX), match));
+    }
+}
@@ -0,0 +1,140 @@
+package casey.lcbdev.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.game.ShotView;
+import casey.lcbdev.model.ships.ShipRegistry;
+import casey.lcbdev.persist.MatchJournal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class ReplayEngineTest {
+    private static final int SIZE = 12;
+
+    private static Player fleet() {
+        Player p = new Player(SIZE, SIZE);
+        for (int id = 0; id < ShipRegistry.count(); id++) {
+            String key = ShipRegistry.keyFor(id);
+            ShipCell[] cells = new ShipCell[ShipRegistry.lengthFor(key)];
+            for (int i = 0; i < cells.length; i++) cells[i] = new ShipCell(i, id * 2);
+            assertTrue(p.addShip(key, ShipRegistry.create(key, cells)));
+        }
+        return p;
+    }
+
+    // Random legal match: each side fires one or two shots per turn
+    private static MoveLog randomLog(long seed) {
+        MoveLog log = new MoveLog(fleet(), fleet(), false, SIZE, SIZE);
+        SplittableRandom rnd = new SplittableRandom(seed);
+        MatchController match = log.newMatch();
+        while (!match.isGameOver()) {
+            Player attacker = match.getCurrentPlayer();
+            Player defender = attacker == match.getPlayerA() ? match.getPlayerB() : match.getPlayerA();
+            int shots = 1 + rnd.nextInt(2);
+            for (int s = 0; s < shots && !match.isGameOver(); s++) {
+                int x, y;
+                do {
+                    x = rnd.nextInt(SIZE);
+                    y = rnd.nextInt(SIZE);
+                } while (match.getShotsAt(defender).isShot(x, y));
+                match.attack(attacker, defender, x, y);
+                log.addAttack(attacker == match.getPlayerA() ? MoveLog.SIDE_A : MoveLog.SIDE_B, x, y);
+            }
+            if (!match.isGameOver()) {
+                match.endTurn();
+                log.addTurnEnd();
+            }
+        }
+        return log;
+    }
+
+    private static void assertSameState(MatchController expected, MatchController actual) {
+        assertEquals(expected.getCurrentPlayer() == expected.getPlayerB(), actual.getCurrentPlayer() == actual.getPlayerB());
+        assertSameShots(expected.getShotsAt(expected.getPlayerA()), actual.getShotsAt(actual.getPlayerA()));
+        assertSameShots(expected.getShotsAt(expected.getPlayerB()), actual.getShotsAt(actual.getPlayerB()));
+        assertEquals(expected.getPlayerA().liveShipCount(), actual.getPlayerA().liveShipCount());
+        assertEquals(expected.getPlayerB().liveShipCount(), actual.getPlayerB().liveShipCount());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+    }
+
+    private static void assertSameShots(ShotView expected, ShotView actual) {
+        assertEquals(expected.getShotCount(), actual.getShotCount());
+        for (int i = expected.nextShot(0); i >= 0; i = expected.nextShot(i + 1)) {
+            assertTrue(actual.isShot(i % SIZE, i / SIZE));
+        }
+    }
+
+    @Test
+    void testSeekMatchesLinearReplay() {
+        MoveLog log = randomLog(7);
+        ReplayEngine engine = new ReplayEngine(log, 10);
+        ReplayEngine linear = new ReplayEngine(log, Integer.MAX_VALUE);
+        assertEquals(0, engine.getPosition());
+
+        SplittableRandom rnd = new SplittableRandom(3);
+        for (int i = 0; i < 50; i++) {
+            int target = rnd.nextInt(log.size() + 1);
+            engine.seek(target);
+            linear.seek(0);
+            while (linear.getPosition() < target) linear.step();
+            assertSameState(linear.getMatch(), engine.getMatch());
+        }
+
+        engine.seek(log.size());
+        assertTrue(engine.getMatch().isGameOver());
+        assertFalse(engine.step());
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.seek(log.size() + 1));
+    }
+
+    @Test
+    void testSeekTurnLandsOnTurnBoundaries() {
+        MoveLog log = randomLog(11);
+        ReplayEngine engine = new ReplayEngine(log);
+        for (int t = engine.getTurnCount(); t >= 0; t--) {
+            engine.seekTurn(t);
+            assertEquals(t, engine.getTurn());
+            // Turns alternate, starting with player A
+            assertEquals(t % 2 == 1, engine.getMatch().getCurrentPlayer() == engine.getMatch().getPlayerB());
+        }
+    }
+
+    @Test
+    void testReplayFromJournal() throws Exception {
+        Path dir = Files.createTempDirectory("replay-test");
+        Path file = dir.resolve("m" + MatchJournal.SUFFIX);
+        try {
+            MoveLog original = randomLog(5);
+            MatchController match = original.newMatch();
+            MatchJournal journal = MatchJournal.create(file, match);
+            ReplayEngine source = new ReplayEngine(original);
+            // Drive the journaled match from the original log
+            Player a = match.getPlayerA();
+            Player b = match.getPlayerB();
+            for (int m = 0; m < original.size(); m++) {
+                if (original.isTurnEnd(m)) match.endTurn();
+                else if (original.getSide(m) == MoveLog.SIDE_A) match.attack(a, b, original.getX(m), original.getY(m));
+                else match.attack(b, a, original.getX(m), original.getY(m));
+            }
+            journal.close();
+
+            MoveLog read = MatchJournal.readLog(file);
+            assertEquals(original.size(), read.size());
+            assertEquals(original.getTurnCount(), read.getTurnCount());
+            ReplayEngine engine = new ReplayEngine(read);
+            engine.seek(read.size());
+            source.seek(original.size());
+            assertSameState(source.getMatch(), engine.getMatch());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+}
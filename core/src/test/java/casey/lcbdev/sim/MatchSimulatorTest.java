@@ -0,0 +1,19 @@
+package casey.lcbdev.sim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MatchSimulatorTest {
+    @Test
+    void testSeededRunIsIndependentOfThreadCount() {
+        SimulationResult single = new MatchSimulator(10, 10, 1).run(600, 7L);
+        SimulationResult parallel = new MatchSimulator(10, 10, 4).run(600, 7L);
+
+        assertEquals(600, single.getGames());
+        assertTrue(single.sameOutcomes(parallel));
+        assertTrue(single.getMinShotsToWin() >= 17);
+        assertTrue(single.getMaxShotsToWin() <= 100);
+    }
+}
@@ -0,0 +1,72 @@
+package casey.lcbdev.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+    private static final Formatter PLAIN = new Formatter() {
+        @Override
+        public String format(LogRecord record) {
+            return record.getMessage() + "\n";
+        }
+    };
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    void testCloseWritesEverythingInOrder() throws IOException {
+        Path dir = Files.createTempDirectory("log-test");
+        try {
+            Path file = dir.resolve("a.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file, 4096, 1 << 20, 1);
+            handler.setFormatter(PLAIN);
+            for (int i = 0; i < 1000; i++) handler.publish(new LogRecord(Level.INFO, "line " + i));
+            handler.close();
+            handler.publish(new LogRecord(Level.SEVERE, "after close"));
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(1000, lines.size());
+            assertEquals("line 0", lines.get(0));
+            assertEquals("line 999", lines.get(999));
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    @Test
+    void testRotationKeepsBoundedFiles() throws IOException {
+        Path dir = Files.createTempDirectory("log-test");
+        try {
+            Path file = dir.resolve("r.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file, 4096, 100, 2);
+            handler.setFormatter(PLAIN);
+            for (int i = 0; i < 100; i++) handler.publish(new LogRecord(Level.INFO, "record number " + i));
+            handler.close();
+
+            assertTrue(Files.size(file) <= 100);
+            assertTrue(Files.exists(dir.resolve("r.log.1")));
+            assertTrue(Files.exists(dir.resolve("r.log.2")));
+            assertFalse(Files.exists(dir.resolve("r.log.3")));
+            List<String> live = Files.readAllLines(file);
+            assertEquals("record number 99", live.get(live.size() - 1));
+        } finally {
+            deleteTree(dir);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package casey.lcbdev.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TiledBitGridTest {
+    @Test
+    void testSetGetAndLazyTiles() {
+        TiledBitGrid grid = new TiledBitGrid(10_000, 10_000);
+        assertEquals(0, grid.getAllocatedTiles());
+
+        assertTrue(grid.set(9_999, 9_999));
+        assertFalse(grid.set(9_999, 9_999));
+        assertTrue(grid.get(9_999, 9_999));
+        assertFalse(grid.get(9_998, 9_999));
+        assertEquals(1, grid.getAllocatedTiles());
+
+        assertTrue(grid.clear(9_999, 9_999));
+        assertFalse(grid.get(9_999, 9_999));
+    }
+
+    @Test
+    void testNextSetBitRowMajor() {
+        TiledBitGrid grid = new TiledBitGrid(200, 130);
+        grid.set(129, 0);
+        grid.set(3, 70);
+        grid.set(64, 70);
+
+        int first = grid.nextSetBit(0);
+        assertEquals(129, first);
+        int second = grid.nextSetBit(first + 1);
+        assertEquals(70 * 130 + 3, second);
+        int third = grid.nextSetBit(second + 1);
+        assertEquals(70 * 130 + 64, third);
+        assertEquals(-1, grid.nextSetBit(third + 1));
+    }
+}
@@ -0,0 +1,12 @@
+plugins {
+    application
+}
+
+// Headless match server. Depends only on the engine, never on JavaFX.
+dependencies {
+    implementation(project(":core"))
+}
+
+application {
+    mainClass.set("casey.lcbdev.server.MatchServer")
+}
@@ -0,0 +1,119 @@
+package casey.lcbdev.server;
+
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.util.Logging;
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Matchmaking lobby. Every joined session runs on its own virtual thread, which parks while it
+ * waits for a partner, so tens of thousands of waiting players cost little more than their stacks.
+ * Waiting pools are a {@link PairingPool} per {@link QueueKey}, so joining never takes a lock
+ * and does not slow down as more players wait under other keys.
+ * <p>
+ * This is an in-process API for embedding matchmaking, where the caller holds both fleets and the
+ * {@link LobbyMatch} controller referees. {@link MatchServer} does its own pairing on its selector
+ * thread and never sees a fleet, so it does not go through a Lobby.
+ */
+public class Lobby implements Closeable {
+    private static final Logger logger = Logging.getLogger(Lobby.class);
+
+    public interface SessionHandler {
+        /**
+         * Runs the session once paired, on the session's virtual thread. Blocking here is fine.
+         * @param self The player this session joined with
+         */
+        void onMatched(LobbyMatch match, Player self) throws Exception;
+    }
+
+    private final PairingPool<QueueKey, Waiter> pool = new PairingPool<>();
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder matchesMade = new LongAdder();
+
+    /**
+     * Queue a player. Returns immediately; the session runs on a new virtual thread.
+     * @return Completes when the session's handler returns. Cancel it to leave the queue; a
+     *         cancel that arrives once a partner has been found is too late, and the game is played.
+     */
+    public Future<?> join(QueueKey key, Player player, SessionHandler handler) {
+        Objects.requireNonNull(key, "Queue key cannot be null");
+        Objects.requireNonNull(player, "Player cannot be null");
+        Objects.requireNonNull(handler, "Session handler cannot be null");
+        return sessions.submit(() -> runSession(key, player, handler));
+    }
+
+    private Void runSession(QueueKey key, Player player, SessionHandler handler) throws Exception {
+        Waiter me = new Waiter(player);
+        Waiter other = pool.pairOrWait(key, me);
+
+        LobbyMatch match;
+        if (other != null) {
+            match = new LobbyMatch(key, other.player, player);
+            matchesMade.increment();
+            other.match.complete(match);
+        } else {
+            match = awaitPartner(key, me);
+            if (match == null) return null;
+        }
+
+        try {
+            handler.onMatched(match, player);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Session on " + key + " failed", e);
+            throw e;
+        }
+        return null;
+    }
+
+    /**
+     * Park until paired.
+     * @return The match, or null if the session was cancelled while still waiting.
+     */
+    private LobbyMatch awaitPartner(QueueKey key, Waiter me) throws ExecutionException {
+        try {
+            return me.match.get();
+        } catch (InterruptedException e) {
+            if (pool.cancel(key, me)) return null;
+            // A partner took us just before the cancel; their game is already set up, so play it.
+            // The interrupt is dropped: left set, it would fail the handler's first blocking call
+            // and abandon the partner's game with it
+            return me.match.join();
+        }
+    }
+
+    /**
+     * @return Number of queues with a player waiting. Walks every queue, so avoid calling it often.
+     */
+    public int waitingCount() {
+        return pool.waitingCount();
+    }
+
+    public long getMatchesMade() {
+        return matchesMade.sum();
+    }
+
+    /**
+     * Interrupts every session, waiting or playing.
+     */
+    @Override
+    public void close() {
+        sessions.shutdownNow();
+    }
+
+    private static final class Waiter {
+        final Player player;
+        final CompletableFuture<LobbyMatch> match = new CompletableFuture<>();
+
+        Waiter(Player player) {
+            this.player = player;
+        }
+    }
+}
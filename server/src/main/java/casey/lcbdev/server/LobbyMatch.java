@@ -0,0 +1,34 @@
+package casey.lcbdev.server;
+
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.model.game.Player;
+
+/**
+ * A pair handed out by the {@link Lobby}, with the controller that referees their game.
+ * The player who waited longest moves first.
+ */
+public final class LobbyMatch {
+    private final QueueKey key;
+    private final Player first;
+    private final Player second;
+    private final MatchController controller;
+
+    LobbyMatch(QueueKey key, Player first, Player second) {
+        this.key = key;
+        this.first = first;
+        this.second = second;
+        this.controller = new MatchController(first, second, first, key.rows, key.cols);
+    }
+
+    public QueueKey getKey() { return key; }
+    public Player getFirst() { return first; }
+    public Player getSecond() { return second; }
+    public MatchController getController() { return controller; }
+
+    /**
+     * @return The other side of the match from the given player.
+     */
+    public Player opponentOf(Player player) {
+        return player == first ? second : first;
+    }
+}
@@ -0,0 +1,285 @@
+package casey.lcbdev.server;
+
+import casey.lcbdev.net.BufferPool;
+import casey.lcbdev.net.Protocol;
+import casey.lcbdev.net.WireCodec;
+import casey.lcbdev.util.Logging;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Relay server for network matches. A single selector thread accepts connections, pairs clients
+ * asking for the same board and salvo size in arrival order, and forwards game frames between the two peers.
+ * The server never resolves attacks itself; the defending peer resolves each shot against its own
+ * fleet and answers with the result, so neither the server nor the attacker ever sees a fleet.
+ */
+public class MatchServer implements Closeable {
+    private static final Logger logger = Logging.getLogger(MatchServer.class);
+    // Frames a session may have waiting to be written before it counts as not reading
+    static final int MAX_QUEUED_FRAMES = 256;
+
+    private final InetSocketAddress bindAddress;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running = false;
+
+    private final PairingPool<QueueKey, Session> waiting = new PairingPool<>();
+    private final BufferPool frames = new BufferPool(Protocol.MAX_FRAME, 1024);
+    // Selector thread only
+    private int sessionCount = 0;
+
+    public MatchServer(int port) {
+        this(new InetSocketAddress(port));
+    }
+
+    public MatchServer(InetSocketAddress bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    /**
+     * Bind and start the selector thread.
+     * @throws IllegalStateException If already started.
+     */
+    public synchronized void start() throws IOException {
+        if (selector != null) throw new IllegalStateException("Server already started");
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(bindAddress);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        selectorThread = new Thread(this::runLoop, "netships-server-selector");
+        selectorThread.start();
+        logger.info("Match server listening on " + serverChannel.getLocalAddress());
+    }
+
+    /**
+     * @return The bound port, useful when started on port 0.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (selector == null) return;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    Session s = (Session) key.attachment();
+                    try {
+                        if (key.isReadable()) read(s);
+                        if (key.isValid() && key.isWritable()) write(s);
+                    } catch (IOException e) {
+                        logger.log(Level.FINE, "Closing session " + s.id, e);
+                        disconnect(s);
+                    } catch (RuntimeException e) {
+                        // A bug or malformed frame costs this session only, never the selector thread
+                        logger.log(Level.WARNING, "Session " + s.id + " failed, closing it", e);
+                        disconnect(s);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Selector loop failed", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try { key.channel().close(); } catch (IOException ignored) {}
+            }
+            try { selector.close(); } catch (IOException ignored) {}
+            logger.info("Match server stopped");
+        }
+    }
+
+    // A failed accept costs that connection only, never the selector loop
+    private void accept() {
+        while (true) {
+            SocketChannel ch;
+            try {
+                ch = serverChannel.accept();
+            } catch (IOException e) {
+                // e.g. out of file descriptors; the key stays ready, so the next select retries
+                logger.log(Level.WARNING, "Could not accept a connection", e);
+                return;
+            }
+            if (ch == null) return;
+            try {
+                ch.configureBlocking(false);
+                ch.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Session s = new Session(++sessionCount, ch);
+                s.key = ch.register(selector, SelectionKey.OP_READ, s);
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Dropping a connection that failed while being accepted", e);
+                try { ch.close(); } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    private void read(Session s) throws IOException {
+        if (s.channel.read(s.in) < 0) throw new IOException("Peer closed the connection");
+
+        s.in.flip();
+        int available = s.in.limit();
+        int total;
+        while ((total = Protocol.frameLength(s.in)) > 0) {
+            int start = s.in.position();
+            byte type = s.in.get(start + Protocol.LENGTH_BYTES);
+            // Limit decoding to this frame, so a short payload fails instead of reading the next one
+            s.in.limit(start + total).position(start + Protocol.LENGTH_BYTES + 1);
+
+            if (type == Protocol.HELLO) {
+                hello(s);
+            } else if (isRelayed(type)) {
+                // Frames still in flight when a peer leaves are dropped
+                if (s.peer != null) relay(s.in, start, total, s.peer);
+            } else {
+                throw new ProtocolException("Unexpected frame type " + type + " from session " + s.id);
+            }
+            s.in.limit(available).position(start + total);
+        }
+        s.in.compact();
+    }
+
+    private void hello(Session s) throws ProtocolException {
+        if (!s.in.hasRemaining()) throw new ProtocolException("Empty hello from session " + s.id);
+        byte version = s.in.get();
+        if (version != Protocol.VERSION) throw new ProtocolException("Unsupported protocol version " + version);
+        int rows = WireCodec.getVarint(s.in);
+        int cols = WireCodec.getVarint(s.in);
+        int salvoSize = WireCodec.getVarint(s.in);
+        if (s.queueKey != null || s.peer != null) throw new ProtocolException("Duplicate hello from session " + s.id);
+        if (rows <= 0 || cols <= 0 || rows > Protocol.MAX_BOARD_SIDE || cols > Protocol.MAX_BOARD_SIDE) {
+            throw new ProtocolException("Unsupported board size " + cols + "x" + rows + " from session " + s.id);
+        }
+        if (salvoSize < 1 || salvoSize > Protocol.MAX_SALVO) {
+            throw new ProtocolException("Unsupported salvo size " + salvoSize + " from session " + s.id);
+        }
+
+        s.queueKey = QueueKey.standard(rows, cols, salvoSize);
+        Session other = waiting.pairOrWait(s.queueKey, s);
+        if (other == null) return;
+
+        // First to arrive moves first. Neither is queued any more, so either may send HELLO
+        // again once the match ends
+        s.peer = other;
+        other.peer = s;
+        s.queueKey = null;
+        other.queueKey = null;
+        sendMatched(other, true);
+        sendMatched(s, false);
+        logger.fine(() -> "Paired sessions " + other.id + " and " + s.id + " on " + s.queueKey);
+    }
+
+    private void relay(ByteBuffer in, int start, int total, Session to) {
+        ByteBuffer copy = frames.acquire();
+        copy.put(0, in, start, total).limit(total);
+        enqueue(to, copy);
+    }
+
+    private void sendMatched(Session to, boolean youStart) {
+        ByteBuffer out = frames.acquire();
+        Protocol.writeMatched(out, youStart);
+        enqueue(to, out.flip());
+    }
+
+    private void sendPeerLeft(Session to) {
+        ByteBuffer out = frames.acquire();
+        Protocol.writePeerLeft(out);
+        enqueue(to, out.flip());
+    }
+
+    private void enqueue(Session to, ByteBuffer frame) {
+        if (to.out.size() >= MAX_QUEUED_FRAMES) {
+            // Buffering for a peer that stopped reading would grow without bound
+            frames.release(frame);
+            logger.warning("Session " + to.id + " is not reading its frames, closing it");
+            disconnect(to);
+            return;
+        }
+        to.out.add(frame);
+        if (to.key.isValid()) to.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    private void write(Session s) throws IOException {
+        while (!s.out.isEmpty()) {
+            ByteBuffer head = s.out.peek();
+            s.channel.write(head);
+            if (head.hasRemaining()) return;
+            frames.release(s.out.poll());
+        }
+        s.key.interestOps(SelectionKey.OP_READ);
+    }
+
+    private void disconnect(Session s) {
+        if (s.queueKey != null) waiting.cancel(s.queueKey, s);
+        Session peer = s.peer;
+        if (peer != null) {
+            // The pairing is over; the peer may queue again on the same connection
+            peer.peer = null;
+            sendPeerLeft(peer);
+        }
+        s.key.cancel();
+        try { s.channel.close(); } catch (IOException ignored) {}
+        for (ByteBuffer b; (b = s.out.poll()) != null; ) frames.release(b);
+    }
+
+    private static boolean isRelayed(byte type) {
+        return type == Protocol.ATTACK || type == Protocol.RESULT || type == Protocol.SALVO;
+    }
+
+    private static final class Session {
+        final int id;
+        final SocketChannel channel;
+        final ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME);
+        final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        SelectionKey key;
+        Session peer;
+        QueueKey queueKey;
+
+        Session(int id, SocketChannel channel) {
+            this.id = id;
+            this.channel = channel;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Protocol.DEFAULT_PORT;
+        MatchServer server = new MatchServer(port);
+        server.start();
+    }
+}
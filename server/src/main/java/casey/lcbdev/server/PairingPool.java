@@ -0,0 +1,79 @@
+package casey.lcbdev.server;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free waiting pool that pairs arrivals with the same key.
+ * <p>
+ * Each key holds at most one waiter, since a second arrival is paired at once, so a join is a
+ * map lookup plus one CAS no matter how many other keys have someone waiting. A slot is retired
+ * and removed as soon as it empties, so the map only grows with the number of waiters, not with
+ * the number of distinct keys ever seen.
+ */
+final class PairingPool<K, T> {
+    // Marks a slot on its way out of the map; whoever sees it fetches a fresh slot
+    private static final Object RETIRED = new Object();
+
+    private final ConcurrentHashMap<K, AtomicReference<Object>> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Take the waiter already parked under the key, or park this one.
+     * @return The partner to pair with, or null if the caller is now waiting.
+     */
+    @SuppressWarnings("unchecked")
+    T pairOrWait(K key, T waiter) {
+        while (true) {
+            AtomicReference<Object> slot = slotFor(key);
+            Object other = slot.get();
+            if (other == RETIRED) {
+                slots.remove(key, slot);
+            } else if (other == null) {
+                if (slot.compareAndSet(null, waiter)) return null;
+            } else if (slot.compareAndSet(other, null)) {
+                retire(key, slot);
+                return (T) other;
+            }
+        }
+    }
+
+    /**
+     * Withdraw a waiter.
+     * @return true if it was still waiting, false if it had already been paired.
+     */
+    boolean cancel(K key, T waiter) {
+        AtomicReference<Object> slot = slots.get(key);
+        if (slot == null || !slot.compareAndSet(waiter, null)) return false;
+        retire(key, slot);
+        return true;
+    }
+
+    /**
+     * Walks every slot, so meant for monitoring rather than hot paths.
+     */
+    int waitingCount() {
+        int n = 0;
+        for (AtomicReference<Object> slot : slots.values()) {
+            Object w = slot.get();
+            if (w != null && w != RETIRED) n++;
+        }
+        return n;
+    }
+
+    /**
+     * @return Keys currently holding a slot, including slots about to be removed.
+     */
+    int slotCount() {
+        return slots.size();
+    }
+
+    // Fails if someone parked in the slot first, in which case it stays
+    private void retire(K key, AtomicReference<Object> slot) {
+        if (slot.compareAndSet(null, RETIRED)) slots.remove(key, slot);
+    }
+
+    private AtomicReference<Object> slotFor(K key) {
+        AtomicReference<Object> slot = slots.get(key);
+        return slot != null ? slot : slots.computeIfAbsent(key, k -> new AtomicReference<>());
+    }
+}
@@ -0,0 +1,62 @@
+package casey.lcbdev.server;
+
+import casey.lcbdev.model.game.MatchController;
+
+/**
+ * Identifies a lobby queue. Only players on the same board size bringing the same fleet and
+ * firing the same number of shots per turn are paired.
+ */
+public final class QueueKey {
+    /** The fleet defined by {@link casey.lcbdev.model.ships.ShipRegistry}. */
+    public static final int STANDARD_FLEET = 0;
+
+    public final int rows;
+    public final int cols;
+    public final int fleetConfig;
+    public final int salvoSize;
+
+    public QueueKey(int rows, int cols, int fleetConfig) {
+        this(rows, cols, fleetConfig, 1);
+    }
+
+    /**
+     * @param salvoSize Shots per turn, 1 for the classic game
+     */
+    public QueueKey(int rows, int cols, int fleetConfig, int salvoSize) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        if (salvoSize < 1) throw new IllegalArgumentException("Salvo size must be at least 1");
+        this.rows = rows;
+        this.cols = cols;
+        this.fleetConfig = fleetConfig;
+        this.salvoSize = salvoSize;
+    }
+
+    public static QueueKey standard(int rows, int cols) {
+        return standard(rows, cols, 1);
+    }
+
+    public static QueueKey standard(int rows, int cols, int salvoSize) {
+        return new QueueKey(rows, cols, STANDARD_FLEET, salvoSize);
+    }
+
+    public static QueueKey standard() {
+        return standard(MatchController.DEFAULT_ROWS, MatchController.DEFAULT_COLS);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueueKey k)) return false;
+        return rows == k.rows && cols == k.cols && fleetConfig == k.fleetConfig && salvoSize == k.salvoSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * ((31 * (31 * rows + cols)) + fleetConfig) + salvoSize;
+    }
+
+    @Override
+    public String toString() {
+        return cols + "x" + rows + "/fleet" + fleetConfig + (salvoSize > 1 ? "/salvo" + salvoSize : "");
+    }
+}
@@ -0,0 +1,88 @@
+package casey.lcbdev.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.game.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LobbyTest {
+    private final Lobby lobby = new Lobby();
+
+    @AfterEach
+    void tearDown() {
+        lobby.close();
+    }
+
+    @Test
+    void testPlayersWithSameKeyArePaired() throws Exception {
+        Player a = new Player();
+        Player b = new Player();
+        List<LobbyMatch> seen = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        Lobby.SessionHandler handler = (match, self) -> {
+            synchronized (seen) { seen.add(match); }
+            done.countDown();
+        };
+
+        lobby.join(QueueKey.standard(), a, handler);
+        waitUntilWaiting(1);
+        lobby.join(QueueKey.standard(), b, handler);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertSame(seen.get(0), seen.get(1));
+        LobbyMatch match = seen.get(0);
+        assertSame(a, match.getFirst());
+        assertSame(b, match.opponentOf(a));
+        assertTrue(match.getController().isTurn(a));
+        assertEquals(1, lobby.getMatchesMade());
+    }
+
+    @Test
+    void testDifferentKeysAreNotPaired() throws Exception {
+        Future<?> small = lobby.join(QueueKey.standard(10, 10), new Player(), (m, p) -> {});
+        Future<?> large = lobby.join(QueueKey.standard(20, 20), new Player(20, 20), (m, p) -> {});
+        waitUntilWaiting(2);
+        assertEquals(0, lobby.getMatchesMade());
+
+        small.cancel(true);
+        waitUntilWaiting(1);
+        assertFalse(large.isDone());
+    }
+
+    @Test
+    void testTenThousandWaitersAllPaired() throws Exception {
+        int keys = 5_000;
+        Set<LobbyMatch> matches = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(keys * 2);
+        Lobby.SessionHandler handler = (match, self) -> {
+            matches.add(match);
+            done.countDown();
+        };
+
+        for (int i = 0; i < keys; i++) lobby.join(new QueueKey(10, 10, i), new Player(), handler);
+        for (int i = 0; i < keys; i++) lobby.join(new QueueKey(10, 10, i), new Player(), handler);
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(keys, matches.size());
+        assertEquals(0, lobby.waitingCount());
+    }
+
+    private void waitUntilWaiting(int n) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lobby.waitingCount() != n) {
+            if (System.nanoTime() > deadline) throw new AssertionError("Expected " + n + " waiting");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package casey.lcbdev.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.board.ShotState;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.Player;
+import casey.lcbdev.model.ships.ShipRegistry;
+import casey.lcbdev.net.NetworkOpponentHandler;
+import casey.lcbdev.net.Protocol;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MatchServerTest {
+    private static final int TIMEOUT_SECONDS = 5;
+    private MatchServer server;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MatchServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void testAttacksAreRelayedOverLoopback() throws Exception {
+        Peer a = new Peer();
+        Peer b = new Peer();
+        a.handler.connect(address);
+        b.handler.connect(address);
+
+        GameManager gmA = a.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        GameManager gmB = b.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotEquals(a.localStarts, b.localStarts);
+
+        Peer first = a.localStarts ? a : b;
+        Peer second = a.localStarts ? b : a;
+        GameManager firstGame = a.localStarts ? gmA : gmB;
+
+        // Every fleet puts a carrier along row 0, so (2,0) hits and (9,9) misses
+        first.exec.submit(() -> firstGame.handleLocalAttack(2, 0));
+        assertEquals("shot 2,0 HIT", first.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("local 2,0", second.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        first.exec.submit(() -> firstGame.handleLocalAttack(9, 9));
+        assertEquals("shot 9,9 MISS", first.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("local 9,9", second.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        GameManager secondGame = a.localStarts ? gmB : gmA;
+        assertTrue(second.exec.submit(secondGame::isLocalPlayerTurn).get());
+        assertTrue(first.exec.submit(() -> !firstGame.isLocalPlayerTurn()).get());
+
+        a.close();
+        b.close();
+    }
+
+    @Test
+    void testPeerIsToldWhenOpponentLeaves() throws Exception {
+        Peer a = new Peer();
+        Peer b = new Peer();
+        a.handler.connect(address);
+        b.handler.connect(address);
+        a.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        b.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        a.handler.disconnect();
+        assertEquals("left", b.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        a.close();
+        b.close();
+    }
+
+    @Test
+    void testMalformedHelloOnlyDropsThatSession() throws Exception {
+        try (SocketChannel truncated = SocketChannel.open(address);
+             SocketChannel negative = SocketChannel.open(address)) {
+            // Length 1: the type byte with no version or board size
+            truncated.write(ByteBuffer.wrap(new byte[] { 0, 1, Protocol.HELLO }));
+            ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_FRAME);
+            Protocol.writeHello(out, -1, 10, 1);
+            negative.write(out.flip());
+
+            // Both are closed by the server rather than taking it down
+            ByteBuffer in = ByteBuffer.allocate(16);
+            assertEquals(-1, truncated.read(in));
+            assertEquals(-1, negative.read(in));
+        }
+
+        Peer a = new Peer();
+        Peer b = new Peer();
+        a.handler.connect(address);
+        b.handler.connect(address);
+        a.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        b.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        a.close();
+        b.close();
+    }
+
+    @Test
+    void testOnlyMatchingSalvoSizesArePaired() throws Exception {
+        Peer classic = new Peer(1);
+        Peer a = new Peer(3);
+        Peer b = new Peer(3);
+        classic.handler.connect(address);
+        a.handler.connect(address);
+        b.handler.connect(address);
+
+        GameManager gmA = a.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        GameManager gmB = b.game.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(classic.game.isDone());
+
+        Peer first = a.localStarts ? a : b;
+        Peer second = a.localStarts ? b : a;
+        GameManager firstGame = a.localStarts ? gmA : gmB;
+        first.exec.submit(() -> firstGame.handleLocalSalvo(new int[] { 0,0, 9,9, 1,0 }));
+        for (String shot : new String[] { "0,0 HIT", "9,9 MISS", "1,0 HIT" }) {
+            assertEquals("shot " + shot, first.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+        assertEquals("local 0,0", second.events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        classic.close();
+        a.close();
+        b.close();
+    }
+
+    @Test
+    void testPeerThatStopsReadingIsDisconnected() throws Exception {
+        try (SocketChannel sender = SocketChannel.open();
+             SocketChannel stalled = SocketChannel.open()) {
+            stalled.setOption(StandardSocketOptions.SO_RCVBUF, 4096);
+            sender.connect(address);
+            stalled.connect(address);
+            ByteBuffer hello = ByteBuffer.allocate(Protocol.MAX_FRAME);
+            Protocol.writeHello(hello, 10, 10, 1);
+            sender.write(hello.flip());
+            stalled.write(hello.rewind());
+
+            // Keep attacking a peer that never reads until the server gives up on it
+            Thread flood = new Thread(() -> {
+                ByteBuffer batch = ByteBuffer.allocate(4096);
+                while (batch.remaining() >= 8) Protocol.writeAttack(batch, 1, 1);
+                batch.flip();
+                try {
+                    while (!Thread.currentThread().isInterrupted()) sender.write(batch.rewind());
+                } catch (Exception ignored) {
+                    // Closed when the test ends
+                }
+            });
+            flood.start();
+            try {
+                assertEquals(Protocol.MATCHED + " " + Protocol.PEER_LEFT, readFrameTypes(sender, 2));
+            } finally {
+                flood.interrupt();
+            }
+        }
+    }
+
+    @Test
+    void testClientCanRequeueAfterPeerLeaves() throws Exception {
+        try (SocketChannel a = SocketChannel.open(address);
+             SocketChannel b = SocketChannel.open(address)) {
+            ByteBuffer hello = ByteBuffer.allocate(Protocol.MAX_FRAME);
+            Protocol.writeHello(hello, 10, 10, 1);
+            hello.flip();
+            a.write(hello.duplicate());
+            b.write(hello.duplicate());
+            assertEquals("" + Protocol.MATCHED, readFrameTypes(a, 1));
+            b.close();
+            assertEquals("" + Protocol.PEER_LEFT, readFrameTypes(a, 1));
+
+            // The same connection joins the queue again and is paired with a newcomer
+            a.write(hello.duplicate());
+            try (SocketChannel c = SocketChannel.open(address)) {
+                c.write(hello.duplicate());
+                assertEquals("" + Protocol.MATCHED, readFrameTypes(a, 1));
+                assertEquals("" + Protocol.MATCHED, readFrameTypes(c, 1));
+            }
+        }
+    }
+
+    /**
+     * Read whole frames from a raw client, giving up after the usual timeout.
+     * @return Their types, space separated
+     */
+    private static String readFrameTypes(SocketChannel ch, int frames) throws Exception {
+        CompletableFuture<String> types = CompletableFuture.supplyAsync(() -> {
+            ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME);
+            StringBuilder read = new StringBuilder();
+            try {
+                for (int i = 0; i < frames; i++) {
+                    in.clear().limit(Protocol.LENGTH_BYTES);
+                    while (in.hasRemaining()) if (ch.read(in) < 0) return read + " closed";
+                    in.limit(Protocol.LENGTH_BYTES + in.getShort(0));
+                    while (in.hasRemaining()) if (ch.read(in) < 0) return read + " closed";
+                    read.append(read.isEmpty() ? "" : " ").append(in.get(Protocol.LENGTH_BYTES));
+                }
+            } catch (Exception e) {
+                return read + " " + e;
+            }
+            return read.toString();
+        });
+        return types.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Player fleet() {
+        Player p = new Player();
+        int row = 0;
+        for (String key : ShipRegistry.SHIP_LENGTH_BY_KEY.keySet()) {
+            ShipCell[] cells = new ShipCell[ShipRegistry.lengthFor(key)];
+            for (int i = 0; i < cells.length; i++) cells[i] = new ShipCell(i, row);
+            assertTrue(p.addShip(key, ShipRegistry.create(key, cells)));
+            row += 2;
+        }
+        return p;
+    }
+
+    /** One client with its own single-threaded stand-in for the FX thread. */
+    private static final class Peer implements NetworkOpponentHandler.MatchListener, GameManager.BoardUpdater {
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        final Player player = fleet();
+        final NetworkOpponentHandler handler;
+        final CompletableFuture<GameManager> game = new CompletableFuture<>();
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        volatile boolean localStarts;
+
+        Peer() {
+            this(1);
+        }
+
+        Peer(int salvoSize) {
+            handler = new NetworkOpponentHandler(player, 10, 10, salvoSize, exec, this);
+        }
+
+        @Override
+        public void onMatchReady(boolean localStarts) {
+            this.localStarts = localStarts;
+            GameManager gm = new GameManager(player, new Player(10, 10), handler, 10, 10, localStarts);
+            gm.setSalvoSize(handler.getSalvoSize());
+            gm.setBoardUpdater(this);
+            gm.start();
+            game.complete(gm);
+        }
+
+        @Override
+        public void onOpponentLeft() { events.add("left"); }
+
+        @Override
+        public void updateLocalShipCell(int x, int y) { events.add("local " + x + "," + y); }
+
+        @Override
+        public void updateOpponentShotCell(int x, int y, ShotState state) { events.add("shot " + x + "," + y + " " + state); }
+
+        @Override
+        public void showStatus(String message) {}
+
+        @Override
+        public void onGameOver(boolean localPlayerWon) {}
+
+        void close() {
+            handler.disconnect();
+            exec.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package casey.lcbdev.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PairingPoolTest {
+    @Test
+    void testEmptySlotsAreRemoved() {
+        PairingPool<Integer, String> pool = new PairingPool<>();
+        for (int key = 0; key < 1000; key++) {
+            assertNull(pool.pairOrWait(key, "a" + key));
+            assertEquals("a" + key, pool.pairOrWait(key, "b" + key));
+        }
+        assertEquals(0, pool.slotCount());
+
+        assertNull(pool.pairOrWait(7, "c"));
+        assertEquals(1, pool.slotCount());
+        assertTrue(pool.cancel(7, "c"));
+        assertFalse(pool.cancel(7, "c"));
+        assertEquals(0, pool.slotCount());
+        assertEquals(0, pool.waitingCount());
+
+        // A retired key can be used again
+        assertNull(pool.pairOrWait(7, "d"));
+        assertEquals("d", pool.pairOrWait(7, "e"));
+    }
+}
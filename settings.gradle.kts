@@ -1 +1,7 @@
-rootProject.name = "netships"
\ No newline at end of file
+rootProject.name = "netships"
+
+// core: headless game engine, no JavaFX
+// ui: JavaFX client
+// server: headless match server
+// bench: JMH benchmarks
+include("core", "ui", "server", "bench")
@@ -1,12 +0,0 @@
-package casey.lcbdev.model.board;
-
-import javafx.application.Platform;
-import org.junit.jupiter.api.BeforeAll;
-
-class FxTestBase {
-
-    @BeforeAll
-    static void initToolkit() {
-        Platform.startup(() -> {});
-    }
-}
\ No newline at end of file
@@ -0,0 +1,36 @@
+plugins {
+    id("org.openjfx.javafxplugin")
+    application
+}
+
+dependencies {
+    implementation(project(":core"))
+
+    // TestFX core and JUnit5 support
+    testImplementation("org.testfx:testfx-core:4.0.18")
+    testImplementation("org.testfx:testfx-junit5:4.0.18")
+}
+
+javafx {
+    version = "25"
+    modules("javafx.controls", "javafx.fxml")
+}
+
+tasks.test {
+    jvmArgs = listOf(
+        "--module-path", classpath.asPath,
+        "--add-modules", "javafx.controls,javafx.fxml",
+        "--add-opens=javafx.controls/javafx.scene=ALL-UNNAMED",
+        "--add-opens=javafx.graphics/javafx.scene=ALL-UNNAMED",
+        "--add-opens=javafx.base/javafx.beans=ALL-UNNAMED"
+    )
+
+    systemProperty("testfx.robot", "glass")
+    systemProperty("testfx.headless", "true")
+    systemProperty("prism.order", "sw")
+    systemProperty("prism.text", "t2k")
+}
+
+application {
+    mainClass.set("casey.lcbdev.NetShips")
+}
@@ -1,7 +1,12 @@
 package casey.lcbdev;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.logging.Logger;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.game.MatchController;
+import casey.lcbdev.persist.MatchJournal;
+import casey.lcbdev.persist.MatchJournals;
 import casey.lcbdev.ui.GameScreen;
 import casey.lcbdev.util.Logging;
 import javafx.application.Application;
@@ -19,6 +24,8 @@ import javafx.stage.Stage;
 public class NetShips extends Application {
 
     private static final Logger logger = Logging.getLogger(NetShips.class);
+    // One shot per ship in the standard fleet, as in the traditional salvo rules
+    private static final int SALVO_SHOTS = 5;
 
     @Override
     public void start(Stage primaryStage) {
@@ -27,7 +34,10 @@ public class NetShips extends Application {
         startBtn.setOnAction(_ -> showGame(primaryStage));
 
         Button pveBtn = new Button("Start vs AI");
-        pveBtn.setOnAction(_ -> showGameVsAI(primaryStage));
+        pveBtn.setOnAction(_ -> showGameVsAI(primaryStage, 1));
+
+        Button salvoBtn = new Button("Start vs AI (Salvo)");
+        salvoBtn.setOnAction(_ -> showGameVsAI(primaryStage, SALVO_SHOTS));
 
         Button quitBtn = new Button("Quit");
         quitBtn.setOnAction(_ -> Platform.exit());
@@ -35,7 +45,7 @@ public class NetShips extends Application {
         VBox menuRoot = new VBox(10);
         menuRoot.setPadding(new Insets(20));
         menuRoot.setAlignment(Pos.CENTER);
-        menuRoot.getChildren().addAll(startBtn, pveBtn, quitBtn);
+        menuRoot.getChildren().addAll(startBtn, pveBtn, salvoBtn, quitBtn);
 
         Scene menuScene = new Scene(menuRoot, 800, 600);
 
@@ -69,16 +79,16 @@ public class NetShips extends Application {
         gameScreen.requestFocus();
     }
 
-    private void showGameVsAI(Stage stage) {
+    private void showGameVsAI(Stage stage, int salvoSize) {
         Button backButton = new Button("Back");
         backButton.setOnAction(e -> backToMenu(stage));
 
-        Label title = new Label("NetShips - Versus AI");
+        Label title = new Label(salvoSize > 1 ? "NetShips - Versus AI (Salvo)" : "NetShips - Versus AI");
         HBox topBar = new HBox(10, backButton, title);
         topBar.setAlignment(Pos.CENTER_LEFT);
         topBar.setPadding(new Insets(8));
 
-        GameScreen gameScreen = new GameScreen(true);
+        GameScreen gameScreen = new GameScreen(true, MatchController.DEFAULT_ROWS, MatchController.DEFAULT_COLS, salvoSize);
 
         BorderPane root = new BorderPane();
         root.setTop(topBar);
@@ -96,7 +106,10 @@ public class NetShips extends Application {
         startBtn.setOnAction(e -> showGame(stage));
 
         Button pveBtn = new Button("Start vs AI");
-        pveBtn.setOnAction(e -> showGameVsAI(stage));
+        pveBtn.setOnAction(e -> showGameVsAI(stage, 1));
+
+        Button salvoBtn = new Button("Start vs AI (Salvo)");
+        salvoBtn.setOnAction(e -> showGameVsAI(stage, SALVO_SHOTS));
 
         Button quitBtn = new Button("Quit");
         quitBtn.setOnAction(e -> {
@@ -107,16 +120,32 @@ public class NetShips extends Application {
         VBox menuRoot = new VBox(10);
         menuRoot.setPadding(new Insets(20));
         menuRoot.setAlignment(Pos.CENTER);
-        menuRoot.getChildren().addAll(startBtn, pveBtn, quitBtn);
+        menuRoot.getChildren().addAll(startBtn, pveBtn, salvoBtn, quitBtn);
 
         Scene menuScene = new Scene(menuRoot, 800, 600);
         stage.setScene(menuScene);
         logger.info("Finished loading menu.");
     }
 
+    /**
+     * Check the journals of matches cut short by a crash. There is no resume screen yet, so each
+     * is rebuilt, reported and set aside, where {@link GameManager#resume} or replay can still use it.
+     */
+    private static void recoverJournals() {
+        if (!MatchJournals.isEnabled()) return;
+        for (MatchJournal journal : MatchJournals.recoverUnfinished()) {
+            MatchController match = journal.getMatch();
+            int shots = match.getShotsAt(match.getPlayerA()).getShotCount() + match.getShotsAt(match.getPlayerB()).getShotCount();
+            Path aside = MatchJournals.setAside(journal);
+            logger.info("Unfinished match in " + journal.getFile() + ": " + shots + " shots fired"
+                + (aside != null ? ", moved to " + aside : ""));
+        }
+    }
+
     public static void main(String[] args) {
         Logging.init();
         logger.info("Launching with args: " + Arrays.toString(args));
+        recoverJournals();
         launch(args);
     }
 }
\ No newline at end of file
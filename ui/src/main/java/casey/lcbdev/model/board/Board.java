@@ -0,0 +1,229 @@
+package casey.lcbdev.model.board;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Region;
+import java.util.function.Consumer;
+import java.util.function.BiFunction;
+
+/**
+ * A resizeable grid container of Cells (CellView<T>).
+ * Manages Cells and auto sizes to fit region. Uses a few scene-graph nodes per cell, which
+ * suits small boards; {@link CanvasBoard} draws large ones.
+ * <p>
+ * Each cell reports its changes to the board, which remembers them until the next
+ * {@link #refreshDirtyCells()}, so a repaint only touches the cells that changed.
+ * 
+ * @param <T> occupant type
+ */
+public class Board<T> extends Region implements BoardView<T> {
+    private final int rows;
+    private final int cols;
+    private final double gap = 1.0;
+    private final Cell<T>[] cells;
+    private final CellView<T>[] views;
+    private final ObjectProperty<BoardHandler<T>> handler = new SimpleObjectProperty<>(new DefaultBoardHandler<>());
+    private final BiFunction<Integer,Integer, Cell<T>> cellFactory;
+    private final CellGrid<T> grid;
+    private final boolean singleSelection = true;
+    private int selected = -1;
+    private int hovered = -1;
+    // Cell size from the last layout, for mapping mouse positions to cells
+    private double cellSize = 0;
+
+    private final DirtyCells dirty;
+    private final Consumer<Cell<T>> dirtyMarker = this::markDirty;
+
+    public Board(int rows, int cols, BiFunction<Integer,Integer, Cell<T>> cellFactory) {
+        this(rows, cols, cellFactory, null);
+    }
+
+    /**
+     * A board showing the cells of a grid, which holds their state.
+     */
+    public Board(CellGrid<T> grid) {
+        this(grid.getRows(), grid.getCols(), grid::cell, grid);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Board(int rows, int cols, BiFunction<Integer,Integer, Cell<T>> cellFactory, CellGrid<T> grid) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        this.rows=rows;
+        this.cols=cols;
+        this.cellFactory = cellFactory == null ? (x,y) -> new Cell<>(x,y) : cellFactory;
+        this.grid = grid;
+
+        this.cells = (Cell<T>[]) new Cell[rows * cols];
+        this.views = (CellView<T>[]) new CellView[rows * cols];
+        this.dirty = new DirtyCells(rows * cols);
+        if (grid != null) grid.setChangeListener(dirty::mark);
+
+        createGrid();
+        setupInteractions();
+    }
+
+    private void createGrid() {
+        final int total = rows * cols;
+        for (int i = 0; i < total; i++) {
+            int x = i % cols;
+            int y = i / cols;
+            Cell<T> c = cellFactory.apply(x, y);
+            cells[i] = c;
+            if (grid == null) c.setChangeListener(dirtyMarker);
+
+            CellView<T> view = new CellView<>(c);
+            // The board handles the mouse for every cell, see setupInteractions
+            view.setMouseTransparent(true);
+            views[i] = view;
+            getChildren().add(view);
+        }
+    }
+
+    /**
+     * One set of mouse handlers on the board itself: the cell under the pointer is worked out from
+     * the layout, and the handler only hears about hover when the cell under the pointer changes.
+     */
+    private void setupInteractions() {
+        setOnMouseMoved(e -> hover(indexAt(e.getX(), e.getY())));
+        setOnMouseExited(e -> hover(-1));
+        setOnMouseClicked(e -> {
+            int idx = indexAt(e.getX(), e.getY());
+            if (idx < 0) return;
+            MouseButton btn = e.getButton();
+            handler.get().onClick(cells[idx], btn, e.getClickCount());
+            if (singleSelection && btn == MouseButton.PRIMARY) {
+                select(idx);
+            }
+        });
+    }
+
+    /**
+     * @return Index of the cell under a point in board coordinates, or -1 if none.
+     */
+    int indexAt(double px, double py) {
+        if (cellSize <= 0 || px < 0 || py < 0) return -1;
+        int x = (int) (px / (cellSize + gap));
+        int y = (int) (py / (cellSize + gap));
+        if (x >= cols || y >= rows) return -1;
+        return y * cols + x;
+    }
+
+    private void hover(int idx) {
+        if (idx == hovered) return;
+        int prev = hovered;
+        hovered = idx;
+        if (prev >= 0) {
+            handler.get().onHoverExit(cells[prev]);
+            views[prev].setHoverVisual(false);
+        }
+        if (idx >= 0) {
+            handler.get().onHoverEnter(cells[idx]);
+            views[idx].setHoverVisual(true);
+        }
+    }
+
+    private void select(int idx) {
+        if (selected == idx) return;
+        if (selected >= 0) views[selected].setSelected(false);
+        selected = idx;
+        if (idx >= 0) views[idx].setSelected(true);
+    }
+
+    public CellView<T> getViewFor(Cell<T> cell) {
+        int idx = cell.getY() * cols + cell.getX();
+        if (idx < 0 || idx >= views.length) return null;
+        return views[idx];
+    }
+
+    @Override
+    public void forEachCell(Consumer<Cell<T>> consumer) {
+        for (Cell<T> c : cells) {
+            consumer.accept(c);
+        }
+    }
+
+    @Override
+    public Cell<T> getCell(int x, int y) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return null;
+        return cells[y * cols + x];
+    }
+
+    @Override
+    public int getRows() { return rows; }
+    @Override
+    public int getCols() { return cols; }
+
+    @Override
+    public void setHandler(BoardHandler<T> h) {
+        handler.set(h == null ? new DefaultBoardHandler<>() : h);
+    }
+
+    @Override
+    public BoardHandler<T> getHandler() {
+        return handler.get();
+    }
+
+    private void markDirty(Cell<T> cell) {
+        dirty.mark(cell.getY() * cols + cell.getX());
+    }
+
+    @Override
+    public void setGhost(int x, int y, boolean show, boolean valid) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return;
+        views[y * cols + x].setGhostVisual(show, valid);
+    }
+
+    @Override
+    public void refreshDirtyCells() {
+        dirty.drain(i -> views[i].refresh());
+    }
+
+    @Override
+    public void refreshAllCells() {
+        dirty.clear();
+        for (CellView<T> view : views) {
+            view.refresh();
+        }
+    }
+
+    /**
+     * @return Cells waiting for the next refresh.
+     */
+    int getDirtyCount() {
+        return dirty.count();
+    }
+
+    @Override
+    public Region asRegion() {
+        return this;
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return 400;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return 400;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double w = getWidth();
+        double h = getHeight();
+        double cellW = (w - (cols - 1) * gap) / cols;
+        double cellH = (h - (rows - 1) * gap) / rows;
+        double size = Math.min(cellW, cellH);
+        cellSize = Math.max(0, size);
+
+        for (int i = 0; i < views.length; i++) {
+            CellView<T> view = views[i];
+            Cell<T> c = cells[i];
+            double vx = c.getX() * (size + gap);
+            double vy = c.getY() * (size + gap);
+            view.resizeRelocate(vx, vy, size, size);
+        }
+    }
+}
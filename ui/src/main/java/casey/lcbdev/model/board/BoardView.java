@@ -0,0 +1,54 @@
+package casey.lcbdev.model.board;
+
+import java.util.function.Consumer;
+import javafx.scene.layout.Region;
+
+/**
+ * A grid of Cells the player can see and interact with. Input is reported through a
+ * {@link BoardHandler}; all methods except cell access run on the FX thread.
+ *
+ * @param <T> occupant type
+ */
+public interface BoardView<T> {
+    int getRows();
+    int getCols();
+
+    /**
+     * @return The cell at (x, y), or null if off the board.
+     */
+    Cell<T> getCell(int x, int y);
+
+    void forEachCell(Consumer<Cell<T>> consumer);
+
+    /**
+     * @param h Handler for hover and click events, or null for the default.
+     */
+    void setHandler(BoardHandler<T> h);
+    BoardHandler<T> getHandler();
+
+    /**
+     * Show or hide the translucent overlay used for placement ghosts and salvo targets.
+     * Coordinates off the board are ignored.
+     * @param valid Green if true, red otherwise.
+     */
+    void setGhost(int x, int y, boolean show, boolean valid);
+
+    default void setGhost(Cell<T> cell, boolean show, boolean valid) {
+        if (cell != null) setGhost(cell.getX(), cell.getY(), show, valid);
+    }
+
+    /**
+     * Redraw the cells that changed since the last refresh.
+     */
+    void refreshDirtyCells();
+
+    /**
+     * Redraw every cell.
+     */
+    void refreshAllCells();
+
+    /**
+     * @return The scene-graph node to add to a layout.
+     */
+    Region asRegion();
+}
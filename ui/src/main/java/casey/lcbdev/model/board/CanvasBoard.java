@@ -0,0 +1,268 @@
+package casey.lcbdev.model.board;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import java.util.BitSet;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A board drawn on a single Canvas instead of a node tree per cell, for boards too large for
+ * {@link Board}. Looks and reports input the same way.
+ * <p>
+ * Changed cells are redrawn in place on {@link #refreshDirtyCells()}; only a resize repaints the
+ * whole grid. Hover, selection and ghost overlays are drawn per cell as they change. Built over a
+ * {@link CellGrid}, the board keeps no per-cell objects at all and hands out cell views on demand.
+ *
+ * @param <T> occupant type
+ */
+public class CanvasBoard<T> extends Region implements BoardView<T> {
+    private static final double GAP = 1.0;
+    // Below this spacing per cell the gap is dropped, or it would leave no room for the cell
+    private static final double MIN_GAP_PITCH = 4.0;
+    // Below this cell size, outlines and markers would hide the fill
+    private static final double MIN_DETAIL_SIZE = 6.0;
+
+    private final int rows;
+    private final int cols;
+    private final int total;
+    // Exactly one of these holds the cells
+    private final Cell<T>[] cells;
+    private final CellGrid<T> grid;
+    private final Canvas canvas = new Canvas();
+    private final ObjectProperty<BoardHandler<T>> handler = new SimpleObjectProperty<>(new DefaultBoardHandler<>());
+    private final DirtyCells dirty;
+    private final Consumer<Cell<T>> dirtyMarker = this::markDirty;
+
+    // FX thread only
+    private final BitSet ghost;
+    private final BitSet ghostValid;
+    private int hovered = -1;
+    private int selected = -1;
+    private double cellSize = 0;
+    private double gap = GAP;
+
+    public CanvasBoard(int rows, int cols, BiFunction<Integer,Integer, Cell<T>> cellFactory) {
+        this(rows, cols, (CellGrid<T>) null);
+        BiFunction<Integer,Integer, Cell<T>> factory = cellFactory == null ? (x,y) -> new Cell<>(x,y) : cellFactory;
+        for (int i = 0; i < total; i++) {
+            Cell<T> c = factory.apply(i % cols, i / cols);
+            c.setChangeListener(dirtyMarker);
+            cells[i] = c;
+        }
+    }
+
+    /**
+     * A board showing the cells of a grid, which holds their state.
+     */
+    public CanvasBoard(CellGrid<T> grid) {
+        this(grid.getRows(), grid.getCols(), grid);
+        grid.setChangeListener(dirty::mark);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CanvasBoard(int rows, int cols, CellGrid<T> grid) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Value for rows and cols must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        this.total = rows * cols;
+        this.grid = grid;
+        this.cells = grid == null ? (Cell<T>[]) new Cell[total] : null;
+        this.dirty = new DirtyCells(total);
+        this.ghost = new BitSet(total);
+        this.ghostValid = new BitSet(total);
+
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.CENTER);
+        getChildren().add(canvas);
+        setupInteractions();
+    }
+
+    private void setupInteractions() {
+        canvas.setOnMouseMoved(e -> hover(indexAt(e.getX(), e.getY())));
+        canvas.setOnMouseExited(e -> hover(-1));
+        canvas.setOnMouseClicked(e -> {
+            int idx = indexAt(e.getX(), e.getY());
+            if (idx < 0) return;
+            MouseButton btn = e.getButton();
+            handler.get().onClick(cellAt(idx), btn, e.getClickCount());
+            if (btn == MouseButton.PRIMARY) select(idx);
+        });
+    }
+
+    /**
+     * @return Index of the cell under a point in board coordinates, or -1 if none.
+     */
+    int indexAt(double px, double py) {
+        if (cellSize <= 0 || px < 0 || py < 0) return -1;
+        int x = (int) (px / (cellSize + gap));
+        int y = (int) (py / (cellSize + gap));
+        if (x >= cols || y >= rows) return -1;
+        return y * cols + x;
+    }
+
+    private void hover(int idx) {
+        if (idx == hovered) return;
+        int prev = hovered;
+        hovered = idx;
+        if (prev >= 0) {
+            handler.get().onHoverExit(cellAt(prev));
+            drawCell(prev);
+        }
+        if (idx >= 0) {
+            handler.get().onHoverEnter(cellAt(idx));
+            drawCell(idx);
+        }
+    }
+
+    private void select(int idx) {
+        if (idx == selected) return;
+        int prev = selected;
+        selected = idx;
+        if (prev >= 0) drawCell(prev);
+        drawCell(idx);
+    }
+
+    private Cell<T> cellAt(int idx) {
+        return grid != null ? grid.cell(idx % cols, idx / cols) : cells[idx];
+    }
+
+    private void markDirty(Cell<T> cell) {
+        dirty.mark(cell.getY() * cols + cell.getX());
+    }
+
+    private void drawCell(int idx) {
+        double s = cellSize;
+        if (s <= 0) return;
+        double x = (idx % cols) * (s + gap);
+        double y = (idx / cols) * (s + gap);
+        Cell<T> c = cellAt(idx);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+
+        g.setFill(idx == hovered ? CellStyle.HOVER : CellStyle.fill(c));
+        g.fillRect(x, y, s, s);
+        if (ghost.get(idx)) {
+            g.setGlobalAlpha(CellStyle.GHOST_OPACITY);
+            g.setFill(CellStyle.ghost(ghostValid.get(idx)));
+            g.fillRect(x, y, s, s);
+            g.setGlobalAlpha(1.0);
+        }
+        if (s < MIN_DETAIL_SIZE) return;
+
+        // Outline inside the cell so redrawing it never touches a neighbour
+        double lw = idx == selected ? 3.0 : 1.0;
+        g.setLineWidth(lw);
+        g.setStroke(idx == selected ? CellStyle.SELECTED : CellStyle.GRID);
+        g.strokeRect(x + lw / 2, y + lw / 2, s - lw, s - lw);
+
+        String text = CellStyle.marker(c);
+        if (text != null) {
+            g.setFill(Color.BLACK);
+            g.fillText(text, x + s / 2, y + s / 2, s);
+        }
+    }
+
+    private void drawAll() {
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < total; i++) drawCell(i);
+    }
+
+    @Override
+    public void setGhost(int x, int y, boolean show, boolean valid) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return;
+        int idx = y * cols + x;
+        ghost.set(idx, show);
+        ghostValid.set(idx, valid);
+        drawCell(idx);
+    }
+
+    @Override
+    public void refreshDirtyCells() {
+        dirty.drain(this::drawCell);
+    }
+
+    @Override
+    public void refreshAllCells() {
+        dirty.clear();
+        drawAll();
+    }
+
+    /**
+     * @return Cells waiting for the next refresh.
+     */
+    int getDirtyCount() {
+        return dirty.count();
+    }
+
+    @Override
+    public void forEachCell(Consumer<Cell<T>> consumer) {
+        for (int i = 0; i < total; i++) {
+            consumer.accept(cellAt(i));
+        }
+    }
+
+    @Override
+    public Cell<T> getCell(int x, int y) {
+        if (x < 0 || x >= cols || y < 0 || y >= rows) return null;
+        return cellAt(y * cols + x);
+    }
+
+    @Override
+    public int getRows() { return rows; }
+    @Override
+    public int getCols() { return cols; }
+
+    @Override
+    public void setHandler(BoardHandler<T> h) {
+        handler.set(h == null ? new DefaultBoardHandler<>() : h);
+    }
+
+    @Override
+    public BoardHandler<T> getHandler() {
+        return handler.get();
+    }
+
+    @Override
+    public Region asRegion() {
+        return this;
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return 400;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return 400;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double w = getWidth();
+        double h = getHeight();
+        // Space per cell with the gap included; very large boards get no gap at all
+        double pitch = Math.min((w + GAP) / cols, (h + GAP) / rows);
+        double g = pitch < MIN_GAP_PITCH ? 0 : GAP;
+        double size = Math.max(0, g == 0 ? Math.min(w / cols, h / rows) : pitch - g);
+        if (w == canvas.getWidth() && h == canvas.getHeight() && size == cellSize && g == gap) return;
+
+        canvas.setWidth(w);
+        canvas.setHeight(h);
+        cellSize = size;
+        gap = g;
+        canvas.getGraphicsContext2D().setFont(Font.font(Math.max(8, cellSize * 0.45)));
+        // Everything moved, so whatever was pending is drawn now too
+        dirty.clear();
+        drawAll();
+    }
+}
@@ -0,0 +1,82 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+import javafx.scene.paint.Color;
+
+import java.util.Objects;
+
+/**
+ * How a cell's state is drawn, shared by every board renderer.
+ */
+final class CellStyle {
+    static final Color GRID = Color.GRAY;
+    static final Color SELECTED = Color.BLUE;
+    static final Color HOVER = Color.CYAN;
+    static final double GHOST_OPACITY = 0.5;
+
+    private CellStyle() {}
+
+    static Color fill(Cell<?> cell) {
+        if (cell instanceof ShipCell shipCell) {
+            // Shots taken at our own ships
+            if (shipCell.getIncomingShot() == ShotState.MISS) return Color.DARKGRAY;
+            if (shipCell.isHit()) return Color.RED;
+        }
+        Object occ = cell.getOccupant();
+        if (!cell.isOccupied() || occ == null) return Color.WHITE;
+        if (occ instanceof ShotState state) {
+            return switch (state) {
+                case UNKNOWN -> Color.WHITE;
+                case MISS -> Color.DARKGRAY;
+                case HIT -> Color.RED;
+            };
+        }
+        if (occ instanceof Ship ship) return colorForShipLength(ship.getLength());
+        return Color.LIGHTGRAY;
+    }
+
+    /**
+     * @return Text drawn on the cell, or null for none.
+     */
+    static String marker(Cell<?> cell) {
+        if (cell instanceof ShipCell shipCell) {
+            if (shipCell.getIncomingShot() == ShotState.MISS) return "•";
+            if (shipCell.isHit()) return "X";
+        }
+        Object occ = cell.getOccupant();
+        if (!cell.isOccupied() || occ == null) return null;
+        if (occ instanceof ShotState state) {
+            return switch (state) {
+                case UNKNOWN -> null;
+                case MISS -> "•";
+                case HIT -> "X";
+            };
+        }
+        if (occ instanceof Ship ship) {
+            String symbol = symbolForShip(ship);
+            int part = cell instanceof ShipCell shipCell ? shipCell.getSegment() : -1;
+            return part >= 0 ? symbol + (part + 1) : symbol;
+        }
+        return Objects.toString(occ);
+    }
+
+    static Color ghost(boolean valid) {
+        return valid ? Color.GREEN : Color.RED;
+    }
+
+    private static String symbolForShip(Ship ship) {
+        String name = ship.getName();
+        if (name == null || name.isBlank()) return "S";
+        return name.substring(0, 1).toUpperCase();
+    }
+
+    private static Color colorForShipLength(int length) {
+        return switch(length) {
+            case 5 -> Color.BLUE;
+            case 4 -> Color.DARKGREEN;
+            case 3 -> Color.RED;
+            case 2 -> Color.YELLOW;
+            default -> Color.LIGHTGRAY;
+        };
+    }
+}
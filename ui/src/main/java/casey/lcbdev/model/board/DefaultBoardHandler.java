@@ -20,6 +20,6 @@ public class DefaultBoardHandler<T> implements BoardHandler<T> {
 
     @Override
     public void onClick(Cell<T> cell, MouseButton button, int clickCount) {
-        logger.info("Clicked: " + cell + " btn=" + button + " clicks=" + clickCount);
+        logger.fine(() -> "Clicked: " + cell + " btn=" + button + " clicks=" + clickCount);
     }
 }
@@ -0,0 +1,61 @@
+package casey.lcbdev.model.board;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Indices of cells changed since the last drain. Cells may be marked from any thread;
+ * draining happens on the FX thread, outside the lock. Whatever a thread wrote before marking
+ * a cell is visible to the drain that hands the cell out.
+ */
+public final class DirtyCells {
+    private final Object lock = new Object();
+    private BitSet dirty;
+    private BitSet draining;
+
+    public DirtyCells(int size) {
+        this.dirty = new BitSet(size);
+        this.draining = new BitSet(size);
+    }
+
+    public void mark(int index) {
+        synchronized (lock) {
+            dirty.set(index);
+        }
+    }
+
+    /**
+     * Hand every marked index to the action and unmark them. Not reentrant.
+     */
+    public void drain(IntConsumer action) {
+        BitSet batch;
+        synchronized (lock) {
+            if (dirty.isEmpty()) return;
+            batch = dirty;
+            dirty = draining;
+            draining = batch;
+        }
+        for (int i = batch.nextSetBit(0); i >= 0; i = batch.nextSetBit(i + 1)) {
+            action.accept(i);
+        }
+        batch.clear();
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            dirty.clear();
+        }
+    }
+
+    public int count() {
+        synchronized (lock) {
+            return dirty.cardinality();
+        }
+    }
+
+    public boolean isEmpty() {
+        synchronized (lock) {
+            return dirty.isEmpty();
+        }
+    }
+}
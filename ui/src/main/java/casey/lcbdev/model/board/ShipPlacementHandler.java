@@ -0,0 +1,251 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+import casey.lcbdev.util.Logging;
+import java.util.logging.Logger;
+import javafx.scene.input.MouseButton;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Supplier;
+import java.util.function.Consumer;
+
+/**
+ * Places the selected ship where the player clicks, showing a ghost of it under the pointer.
+ * <p>
+ * Keeps a bitmap of every start cell where the selected ship fits in the current orientation, so
+ * checking a hover is a bit test. The bitmap is rebuilt when the ship or orientation changes and
+ * updated in place when a ship is placed. It can also be shown on the board as a whole.
+ */
+public class ShipPlacementHandler implements BoardHandler<Ship> {
+    private final BoardView<Ship> board;
+    private  Supplier<Ship> shipFactory;
+    private final Consumer<Ship> placedCallback;
+    private  int shipLength;
+    private static final Logger logger = Logging.getLogger(ShipPlacementHandler.class);
+
+    private Orientation orientation = Orientation.HORIZONTAL;
+
+    // Legal start cells for the selected length and orientation, when validStartsCurrent
+    private final BitSet validStarts;
+    private boolean validStartsCurrent = false;
+    private boolean showLegalStarts = false;
+    private final BitSet highlighted;
+
+    // Cells under the ghost: a start index, or -1, and the shape it was drawn with
+    private int ghostStart = -1;
+    private int ghostLength;
+    private boolean ghostVertical;
+
+    public ShipPlacementHandler(BoardView<Ship> board, Supplier<Ship> shipFactory,int shipLength, Consumer<Ship> placedCallback ) {
+        this.board = board;
+        this.shipFactory = shipFactory;
+        this.placedCallback = placedCallback;
+        if(shipLength <= 0) throw new IllegalArgumentException("Ship length must be greater than 0");
+        this.shipLength = shipLength;
+        this.validStarts = new BitSet(board.getRows() * board.getCols());
+        this.highlighted = new BitSet(board.getRows() * board.getCols());
+    }
+
+    public void setShipSupplier(Supplier<Ship> supplier, int length) {
+        this.shipFactory = supplier;
+        this.shipLength = length;
+        clearGhost();
+        invalidateStarts();
+    }
+
+    // ========== Legal starts ==========
+
+    private boolean isFree(int x, int y) {
+        Cell<Ship> c = board.getCell(x, y);
+        return c.isOccupiable() && !c.isOccupied();
+    }
+
+    private void ensureValidStarts() {
+        if (validStartsCurrent) return;
+        validStarts.clear();
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int len = shipLength;
+        if (len > 0 && orientation == Orientation.HORIZONTAL) {
+            // A start is legal when the run of free cells from it to the right is long enough
+            for (int y = 0; y < rows; y++) {
+                int run = 0;
+                for (int x = cols - 1; x >= 0; x--) {
+                    run = isFree(x, y) ? run + 1 : 0;
+                    if (run >= len) validStarts.set(y * cols + x);
+                }
+            }
+        } else if (len > 0) {
+            int[] run = new int[cols];
+            for (int y = rows - 1; y >= 0; y--) {
+                for (int x = 0; x < cols; x++) {
+                    run[x] = isFree(x, y) ? run[x] + 1 : 0;
+                    if (run[x] >= len) validStarts.set(y * cols + x);
+                }
+            }
+        }
+        validStartsCurrent = true;
+    }
+
+    // Every start whose ship would cover a newly placed cell is no longer legal
+    private void startsBlockedBy(ShipCell[] placed) {
+        if (!validStartsCurrent) return;
+        int cols = board.getCols();
+        boolean vertical = orientation == Orientation.VERTICAL;
+        for (ShipCell c : placed) {
+            for (int k = 0; k < shipLength; k++) {
+                int x = vertical ? c.getX() : c.getX() - k;
+                int y = vertical ? c.getY() - k : c.getY();
+                if (x < 0 || y < 0) break;
+                int idx = y * cols + x;
+                validStarts.clear(idx);
+                if (highlighted.get(idx)) {
+                    highlighted.clear(idx);
+                    board.setGhost(x, y, false, false);
+                }
+            }
+        }
+    }
+
+    private void invalidateStarts() {
+        hideLegalStarts();
+        validStartsCurrent = false;
+        if (showLegalStarts) drawLegalStarts();
+    }
+
+    private void drawLegalStarts() {
+        if (shipFactory == null || shipLength <= 0) return;
+        ensureValidStarts();
+        int cols = board.getCols();
+        for (int i = validStarts.nextSetBit(0); i >= 0; i = validStarts.nextSetBit(i + 1)) {
+            board.setGhost(i % cols, i / cols, true, true);
+            highlighted.set(i);
+        }
+    }
+
+    private void hideLegalStarts() {
+        int cols = board.getCols();
+        for (int i = highlighted.nextSetBit(0); i >= 0; i = highlighted.nextSetBit(i + 1)) {
+            board.setGhost(i % cols, i / cols, false, false);
+        }
+        highlighted.clear();
+    }
+
+    /**
+     * Highlight every cell the selected ship could start from, or stop doing so.
+     */
+    public void setShowLegalStarts(boolean show) {
+        if (show == showLegalStarts) return;
+        showLegalStarts = show;
+        clearGhost();
+        if (show) drawLegalStarts();
+        else hideLegalStarts();
+    }
+
+    public boolean isShowingLegalStarts() { return showLegalStarts; }
+
+    /**
+     * @return true if the selected ship fits starting at (x, y) in the current orientation.
+     */
+    public boolean isLegalStart(int x, int y) {
+        if (shipFactory == null || shipLength <= 0) return false;
+        if (x < 0 || x >= board.getCols() || y < 0 || y >= board.getRows()) return false;
+        ensureValidStarts();
+        return validStarts.get(y * board.getCols() + x);
+    }
+
+    // ========== Ghost ==========
+
+    private void showGhostAt(Cell<Ship> start) {
+        clearGhost();
+        if (shipFactory == null || shipLength <= 0 || start == null) return;
+
+        boolean valid = isLegalStart(start.getX(), start.getY());
+        ghostStart = start.getY() * board.getCols() + start.getX();
+        ghostLength = shipLength;
+        ghostVertical = orientation == Orientation.VERTICAL;
+        drawGhost(true, valid);
+    }
+
+    private void clearGhost() {
+        if (ghostStart < 0) return;
+        drawGhost(false, false);
+        ghostStart = -1;
+    }
+
+    // Cells past the board edge are left out, so an overhanging ghost shows red on the part that fits
+    private void drawGhost(boolean show, boolean valid) {
+        int cols = board.getCols();
+        int sx = ghostStart % cols;
+        int sy = ghostStart / cols;
+        for (int i = 0; i < ghostLength; i++) {
+            int x = ghostVertical ? sx : sx + i;
+            int y = ghostVertical ? sy + i : sy;
+            if (x >= cols || y >= board.getRows()) break;
+            if (show) board.setGhost(x, y, true, valid);
+            // Hand the cell back to the legal start highlight if it had it
+            else board.setGhost(x, y, highlighted.get(y * cols + x), true);
+        }
+    }
+
+    @Override
+    public void onHoverEnter(Cell<Ship> cell) {
+        if (shipFactory == null || shipLength <= 0) return;
+        showGhostAt(cell);
+    }
+
+
+    @Override
+    public void onHoverExit(Cell<Ship> cell) {
+        clearGhost();
+    }
+
+
+    @Override
+    public void onClick(Cell<Ship> cell, MouseButton button, int clickCount) {
+        if (shipFactory == null || shipLength <= 0) {
+            if (button == MouseButton.SECONDARY) {
+                setOrientation(orientation.toggle());
+            }
+            return;
+        }
+
+        if (button == MouseButton.SECONDARY) {
+            setOrientation(orientation.toggle());
+            showGhostAt(cell);
+            return;
+        }
+
+        if (button == MouseButton.PRIMARY) {
+            if (isLegalStart(cell.getX(), cell.getY())) {
+                Ship ship = shipFactory.get();
+                ShipCell[] shipCells = new ShipCell[shipLength];
+                for (int i = 0; i < shipLength; i++) {
+                    shipCells[i] = (ShipCell) (orientation == Orientation.HORIZONTAL
+                            ? board.getCell(cell.getX() + i, cell.getY())
+                            : board.getCell(cell.getX(), cell.getY() + i));
+                }
+
+                clearGhost();
+                ship.placeOnCells(shipCells);
+                startsBlockedBy(shipCells);
+                board.refreshDirtyCells();
+
+                if (placedCallback != null) placedCallback.accept(ship);
+
+                logger.info("Placed [" + ship.toString() + "] at cells: " + Arrays.toString(shipCells));
+            }
+        }
+    }
+
+    public Orientation getOrientation() { return orientation; }
+    public void toggleOrientation() {
+        setOrientation(orientation.toggle());
+    }
+    public void setOrientation(Orientation o) {
+        if (o == orientation) return;
+        clearGhost();
+        this.orientation = o;
+        invalidateStarts();
+    }
+}
@@ -0,0 +1,144 @@
+package casey.lcbdev.ui;
+
+import casey.lcbdev.metrics.Histogram;
+import casey.lcbdev.metrics.Metrics;
+import casey.lcbdev.model.board.BoardView;
+import casey.lcbdev.model.board.Cell;
+import casey.lcbdev.model.board.DirtyCells;
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.board.ShotState;
+import casey.lcbdev.model.game.GameManager;
+import casey.lcbdev.model.ships.Ship;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Board updater that applies engine events once per frame instead of posting a runnable each.
+ * <p>
+ * Engine threads record the latest state of each changed cell in a per-board array and mark the
+ * cell dirty, and overwrite a single pending status message. Nothing is allocated per event, and
+ * however many events arrive, a pulse applies each changed cell once. While anything is pending,
+ * an {@link AnimationTimer} drains it on each pulse and stops once everything has been applied.
+ * Only the latest status text is shown.
+ */
+class BatchingBoardUpdater extends AnimationTimer implements GameManager.BoardUpdater {
+    private static final Histogram DELAY_NANOS = Metrics.histogram(Metrics.UI_QUEUE_DELAY_NANOS);
+    private static final ShotState[] SHOT_STATES = ShotState.values();
+
+    private final BoardView<Ship> playerBoard;
+    private final BoardView<ShotState> opponentBoard;
+    private final Consumer<String> statusSink;
+    private final Consumer<Boolean> gameOverSink;
+
+    // Local cells that took incoming fire
+    private final DirtyCells incoming;
+    // Latest state of each opponent cell, as its ordinal; written before the cell is marked
+    private final byte[] shotStates;
+    private final DirtyCells shots;
+    private final AtomicReference<String> status = new AtomicReference<>();
+    private final AtomicReference<Boolean> gameOver = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile long scheduledAt;
+
+    /**
+     * @param statusSink Shows a status message, on the FX thread.
+     * @param gameOverSink Told whether the local player won, on the FX thread.
+     */
+    BatchingBoardUpdater(BoardView<Ship> playerBoard, BoardView<ShotState> opponentBoard,
+                         Consumer<String> statusSink, Consumer<Boolean> gameOverSink) {
+        this.playerBoard = playerBoard;
+        this.opponentBoard = opponentBoard;
+        this.statusSink = statusSink;
+        this.gameOverSink = gameOverSink;
+        this.incoming = new DirtyCells(playerBoard.getRows() * playerBoard.getCols());
+        this.shotStates = new byte[opponentBoard.getRows() * opponentBoard.getCols()];
+        this.shots = new DirtyCells(shotStates.length);
+    }
+
+    @Override
+    public void updateLocalShipCell(int x, int y) {
+        if (!onBoard(playerBoard, x, y)) return;
+        incoming.mark(y * playerBoard.getCols() + x);
+        schedule();
+    }
+
+    @Override
+    public void updateOpponentShotCell(int x, int y, ShotState state) {
+        if (!onBoard(opponentBoard, x, y)) return;
+        int idx = y * opponentBoard.getCols() + x;
+        shotStates[idx] = (byte) state.ordinal();
+        shots.mark(idx);
+        schedule();
+    }
+
+    @Override
+    public void showStatus(String message) {
+        status.set(message);
+        schedule();
+    }
+
+    @Override
+    public void onGameOver(boolean localPlayerWon) {
+        gameOver.set(localPlayerWon);
+        schedule();
+    }
+
+    private static boolean onBoard(BoardView<?> board, int x, int y) {
+        return x >= 0 && x < board.getCols() && y >= 0 && y < board.getRows();
+    }
+
+    // One wake-up per burst: only the first event after the timer stops starts it again
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        scheduledAt = Metrics.startTimer();
+        if (Platform.isFxApplicationThread()) start();
+        else Platform.runLater(this::start);
+    }
+
+    @Override
+    public void handle(long now) {
+        DELAY_NANOS.recordSince(scheduledAt);
+        scheduledAt = Metrics.startTimer();
+        drain();
+        if (hasPending()) return;
+
+        stop();
+        scheduled.set(false);
+        // An event may have slipped in after the drain but before the flag was cleared
+        if (hasPending() && scheduled.compareAndSet(false, true)) start();
+    }
+
+    /**
+     * Apply everything pending. Costs one step per changed cell, however many events changed it.
+     * FX thread only.
+     */
+    void drain() {
+        // Taken first, so every cell changed before the game ended is applied below
+        Boolean won = gameOver.getAndSet(null);
+        int playerCols = playerBoard.getCols();
+        incoming.drain(i -> {
+            // A hit was already recorded on the ship; only a miss needs marking
+            if (playerBoard.getCell(i % playerCols, i / playerCols) instanceof ShipCell cell && !cell.isOccupied()) {
+                cell.setIncomingShot(ShotState.MISS);
+            }
+        });
+        int opponentCols = opponentBoard.getCols();
+        shots.drain(i -> {
+            Cell<ShotState> cell = opponentBoard.getCell(i % opponentCols, i / opponentCols);
+            cell.setOccupant(SHOT_STATES[shotStates[i]]);
+        });
+        playerBoard.refreshDirtyCells();
+        opponentBoard.refreshDirtyCells();
+
+        String message = status.getAndSet(null);
+        if (message != null) statusSink.accept(message);
+        if (won != null) gameOverSink.accept(won);
+    }
+
+    boolean hasPending() {
+        return !incoming.isEmpty() || !shots.isEmpty() || status.get() != null || gameOver.get() != null;
+    }
+}
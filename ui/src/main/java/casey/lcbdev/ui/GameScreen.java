@@ -6,8 +6,12 @@ import casey.lcbdev.model.game.GameManager;
 import casey.lcbdev.model.game.Player;
 import casey.lcbdev.model.game.AIPlayer;
 import casey.lcbdev.model.game.AIOpponentHandler;
+import casey.lcbdev.model.game.DensityTargeting;
+import casey.lcbdev.model.game.MatchController;
 import casey.lcbdev.model.board.Board;
-import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.board.BoardView;
+import casey.lcbdev.model.board.CanvasBoard;
+import casey.lcbdev.model.board.CellGrid;
 import casey.lcbdev.model.board.ShipPlacementHandler;
 import casey.lcbdev.model.board.ShotState;
 import casey.lcbdev.model.board.Cell;
@@ -23,15 +27,19 @@ import javafx.scene.layout.Priority;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.input.MouseButton;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class GameScreen extends BorderPane {
     private static final Logger logger = Logging.getLogger(GameScreen.class);
+    // Boards with more cells than this are drawn on a canvas instead of one node tree per cell
+    private static final int CANVAS_THRESHOLD = 40 * 40;
     
     // Boards
-    private Board<Ship> playerBoard;
-    private Board<ShotState> opponentBoard;
+    private BoardView<Ship> playerBoard;
+    private BoardView<ShotState> opponentBoard;
     
     // UI components
     private ShipPlacementHandler placementHandler;
@@ -39,19 +47,41 @@ public class GameScreen extends BorderPane {
     private final Label statusLabel = new Label();
     
     // Game state
-    private final Player localPlayer = new Player();
+    private final int rows;
+    private final int cols;
+    private final Player localPlayer;
     private Player remotePlayer;
     private GameManager gameManager;
     private boolean isPvAI;
     private boolean placementComplete = false;
 
+    // Salvo mode: targets picked on the opponent board, fired once the salvo is full
+    private final int salvoSize;
+    private final List<Cell<ShotState>> salvoTargets = new ArrayList<>();
+
     public GameScreen() {
         this(false);
     }
 
     public GameScreen(boolean vsAI) {
-        logger.info("Constructing GameScreen (vsAI=" + vsAI + ")");
+        this(vsAI, MatchController.DEFAULT_ROWS, MatchController.DEFAULT_COLS);
+    }
+
+    public GameScreen(boolean vsAI, int rows, int cols) {
+        this(vsAI, rows, cols, 1);
+    }
+
+    /**
+     * @param salvoSize Shots per turn. 1 is the classic game; more plays the salvo variant.
+     */
+    public GameScreen(boolean vsAI, int rows, int cols, int salvoSize) {
+        logger.info("Constructing GameScreen (vsAI=" + vsAI + ", " + cols + "x" + rows + ", salvo=" + salvoSize + ")");
+        if (salvoSize < 1) throw new IllegalArgumentException("Salvo size must be at least 1");
         this.isPvAI = vsAI;
+        this.salvoSize = salvoSize;
+        this.rows = rows;
+        this.cols = cols;
+        this.localPlayer = new Player(rows, cols);
         
         initPlayerBoard();
         initOpponentBoard();
@@ -78,14 +108,14 @@ public class GameScreen extends BorderPane {
 
     private void initPlayerBoard() {
         logger.info("Initializing player board");
-        playerBoard = new Board<>(10, 10, (x, y) -> new ShipCell(x, y));
-        playerBoard.setPrefSize(600, 600);
+        playerBoard = createBoard(CellGrid.ofShips(rows, cols));
+        playerBoard.asRegion().setPrefSize(600, 600);
     }
 
     private void initOpponentBoard() {
         logger.info("Initializing opponent board");
-        opponentBoard = new Board<>(10, 10, (x, y) -> new Cell<ShotState>(x, y));
-        opponentBoard.setPrefSize(600, 600);
+        opponentBoard = createBoard(CellGrid.<ShotState>of(rows, cols));
+        opponentBoard.asRegion().setPrefSize(600, 600);
         
         opponentBoard.forEachCell(c -> c.setOccupant(ShotState.UNKNOWN));
         
@@ -105,12 +135,21 @@ public class GameScreen extends BorderPane {
             @Override
             public void onClick(Cell<ShotState> cell, MouseButton button, int clickCount) {
                 if (button == MouseButton.PRIMARY && placementComplete && gameManager != null) {
-                    gameManager.handleLocalAttack(cell.getX(), cell.getY());
+                    if (gameManager.isSalvoMode()) {
+                        toggleSalvoTarget(cell);
+                    } else {
+                        gameManager.handleLocalAttack(cell.getX(), cell.getY());
+                    }
                 }
             }
         });
     }
 
+    private <T> BoardView<T> createBoard(CellGrid<T> grid) {
+        if (rows * cols > CANVAS_THRESHOLD) return new CanvasBoard<>(grid);
+        return new Board<>(grid);
+    }
+
     private void initSelector() {
         logger.info("Initializing ship selector");
         selector = new ShipSelectorPane(new ShipSelectorPane.ShipSelectionListener() {
@@ -149,12 +188,14 @@ public class GameScreen extends BorderPane {
 
     private void initAIOpponent() {
         logger.info("Initializing AI opponent");
-        AIPlayer aiAgent = new AIPlayer(10, 10);
+        AIPlayer aiAgent = new AIPlayer(rows, cols);
+        aiAgent.setTargeting(DensityTargeting::new);
         aiAgent.placeAllShipsRandomly();
         remotePlayer = aiAgent.getPlayerModel();
         
         AIOpponentHandler aiHandler = new AIOpponentHandler(aiAgent);
-        gameManager = new GameManager(localPlayer, remotePlayer, aiHandler);
+        gameManager = new GameManager(localPlayer, remotePlayer, aiHandler, rows, cols);
+        gameManager.setSalvoSize(salvoSize);
         gameManager.setBoardUpdater(createBoardUpdater());
         
         statusLabel.setText("VS AI: Place your ships. When ready, attack the opponent.");
@@ -162,8 +203,9 @@ public class GameScreen extends BorderPane {
 
     private void initLocalTestOpponent() {
         logger.info("Initializing local test opponent");
-        remotePlayer = new Player();
-        gameManager = new GameManager(localPlayer, remotePlayer, null);
+        remotePlayer = new Player(rows, cols);
+        gameManager = new GameManager(localPlayer, remotePlayer, null, rows, cols);
+        gameManager.setSalvoSize(salvoSize);
         gameManager.setBoardUpdater(createBoardUpdater());
         
         statusLabel.setText("Local mode: Place your ships.");
@@ -209,6 +251,7 @@ public class GameScreen extends BorderPane {
         }
         
         playerBoard.setHandler(new DefaultBoardHandler<>());
+        if (gameManager != null) gameManager.start();
         
         Platform.runLater(() -> {
             selector.disableAll();
@@ -226,49 +269,48 @@ public class GameScreen extends BorderPane {
         );
     }
 
-    // ========== UI Updates ==========
+    // ========== Salvo ==========
 
-    private GameManager.BoardUpdater createBoardUpdater() {
-        return new GameManager.BoardUpdater() {
-            @Override
-            public void updateLocalShipCell(int x, int y) {
-                Platform.runLater(() -> {
-                    ShipCell cell = (ShipCell) playerBoard.getCell(x, y);
-                    if (cell == null) return;
-                    
-                    // If it's an empty cell (miss), mark it visually
-                    // If it's an occupied cell (hit), Ship.markHit() already handled it
-                    if (!cell.isOccupied()) {
-                        cell.setIncomingShot(ShotState.MISS);
-                    }
-                    playerBoard.refreshAllCells();
-                });
-            }
+    private void toggleSalvoTarget(Cell<ShotState> cell) {
+        if (cell.getOccupant() != ShotState.UNKNOWN) return;
 
-            @Override
-            public void updateOpponentShotCell(int x, int y, ShotState state) {
-                Platform.runLater(() -> {
-                    Cell<ShotState> cell = opponentBoard.getCell(x, y);
-                    if (cell != null) {
-                        cell.setOccupant(state);
-                        opponentBoard.refreshAllCells();
-                    }
-                });
-            }
+        boolean selected = !salvoTargets.remove(cell);
+        if (selected) salvoTargets.add(cell);
+        // Board keeps its own single selection, so mark targets with the overlay instead
+        opponentBoard.setGhost(cell, selected, true);
 
-            @Override
-            public void showStatus(String message) {
-                Platform.runLater(() -> statusLabel.setText(message));
-            }
+        if (salvoTargets.size() >= salvoSize) {
+            fireSalvo();
+        } else {
+            statusLabel.setText("Salvo: " + salvoTargets.size() + "/" + salvoSize + " targets (Enter to fire early)");
+        }
+    }
 
-            @Override
-            public void onGameOver(boolean localPlayerWon) {
-                Platform.runLater(() -> {
-                    statusLabel.setText(localPlayerWon ? "You win!" : "You lose!");
-                    opponentBoard.setHandler(new DefaultBoardHandler<>());
-                });
-            }
-        };
+    private void fireSalvo() {
+        if (salvoTargets.isEmpty()) return;
+        int[] coords = new int[salvoTargets.size() * 2];
+        for (int i = 0; i < salvoTargets.size(); i++) {
+            coords[2 * i] = salvoTargets.get(i).getX();
+            coords[2 * i + 1] = salvoTargets.get(i).getY();
+        }
+        clearSalvoTargets();
+        gameManager.handleLocalSalvo(coords);
+    }
+
+    private void clearSalvoTargets() {
+        for (Cell<ShotState> c : salvoTargets) {
+            opponentBoard.setGhost(c, false, false);
+        }
+        salvoTargets.clear();
+    }
+
+    // ========== UI Updates ==========
+
+    private GameManager.BoardUpdater createBoardUpdater() {
+        return new BatchingBoardUpdater(playerBoard, opponentBoard, statusLabel::setText, localPlayerWon -> {
+            statusLabel.setText(localPlayerWon ? "You win!" : "You lose!");
+            opponentBoard.setHandler(new DefaultBoardHandler<>());
+        });
     }
 
     // ========== Layout ==========
@@ -279,11 +321,11 @@ public class GameScreen extends BorderPane {
         HBox center = new HBox(10);
         center.setPadding(new Insets(8));
 
-        center.getChildren().add(playerBoard);
-        HBox.setHgrow(playerBoard, Priority.ALWAYS);
+        center.getChildren().add(playerBoard.asRegion());
+        HBox.setHgrow(playerBoard.asRegion(), Priority.ALWAYS);
 
-        center.getChildren().add(opponentBoard);
-        HBox.setHgrow(opponentBoard, Priority.ALWAYS);
+        center.getChildren().add(opponentBoard.asRegion());
+        HBox.setHgrow(opponentBoard.asRegion(), Priority.ALWAYS);
 
         center.getChildren().add(selector);
         selector.setPrefWidth(200);
@@ -305,7 +347,14 @@ public class GameScreen extends BorderPane {
                     placementHandler.toggleOrientation();
                     statusLabel.setText("Orientation: " + placementHandler.getOrientation());
                 }
+            } else if (evt.getCode() == KeyCode.H && placementHandler != null && !placementComplete) {
+                boolean show = !placementHandler.isShowingLegalStarts();
+                placementHandler.setShowLegalStarts(show);
+                statusLabel.setText(show ? "Showing every legal start" : "Legal starts hidden");
+            } else if (evt.getCode() == KeyCode.ENTER && gameManager != null && gameManager.isSalvoMode()) {
+                fireSalvo();
             } else if (evt.getCode() == KeyCode.ESCAPE) {
+                clearSalvoTargets();
                 if (placementHandler != null) placementHandler.setShipSupplier(null, 0);
                 selector.resetAll();
                 statusLabel.setText("Cancelled selection");
@@ -333,7 +382,7 @@ public class GameScreen extends BorderPane {
         return scene;
     }
 
-    public Board<?> getBoard() {
+    public BoardView<?> getBoard() {
         return this.playerBoard;
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardTest extends FxTestBase {
+
+    private Board<Ship> board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board<>(10, 10, (x, y) -> new ShipCell(x, y));
+    }
+
+    @Test
+    void testCellAccess() {
+        assertNotNull(board.getCell(0, 0));
+        assertNull(board.getCell(-1, 0));
+        assertNull(board.getCell(10, 10));
+    }
+
+    @Test
+    void testForEachCell() {
+        int[] count = {0};
+        board.forEachCell(c -> count[0]++);
+        assertEquals(100, count[0]);
+    }
+
+    @Test
+    void testOnlyChangedCellsAreDirty() {
+        assertEquals(0, board.getDirtyCount());
+        ShipCell cell = (ShipCell) board.getCell(3, 4);
+        cell.setIncomingShot(ShotState.MISS);
+        cell.setIncomingShot(ShotState.MISS);
+        board.getCell(5, 5).setOccupiable(false);
+        assertEquals(2, board.getDirtyCount());
+
+        board.refreshDirtyCells();
+        assertEquals(0, board.getDirtyCount());
+    }
+
+    @Test
+    void testPointsMapToCells() {
+        assertEquals(-1, board.indexAt(5, 5));
+        // 10 cells of 40px with 1px gaps
+        board.resize(409, 409);
+        board.layout();
+        assertEquals(0, board.indexAt(0, 0));
+        assertEquals(1, board.indexAt(41, 5));
+        assertEquals(10 * 3 + 2, board.indexAt(2 * 41 + 20, 3 * 41 + 20));
+        assertEquals(-1, board.indexAt(5, 420));
+    }
+}
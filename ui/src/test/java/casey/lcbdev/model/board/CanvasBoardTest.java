@@ -0,0 +1,62 @@
+package casey.lcbdev.model.board;
+
+import casey.lcbdev.model.ships.Ship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasBoardTest extends FxTestBase {
+
+    private CanvasBoard<Ship> board;
+
+    @BeforeEach
+    void setUp() {
+        board = new CanvasBoard<>(10, 10, (x, y) -> new ShipCell(x, y));
+        // 10 cells of 40px with 1px gaps
+        board.resize(409, 409);
+        board.layout();
+    }
+
+    @Test
+    void testCellAccess() {
+        assertNotNull(board.getCell(9, 9));
+        assertNull(board.getCell(10, 0));
+        int[] count = {0};
+        board.forEachCell(c -> count[0]++);
+        assertEquals(100, count[0]);
+    }
+
+    @Test
+    void testPointsMapToCells() {
+        assertEquals(0, board.indexAt(0, 0));
+        assertEquals(1, board.indexAt(41, 5));
+        assertEquals(10 * 3 + 2, board.indexAt(2 * 41 + 20, 3 * 41 + 20));
+        assertEquals(-1, board.indexAt(-1, 5));
+        assertEquals(-1, board.indexAt(5, 420));
+    }
+
+    @Test
+    void testOnlyChangedCellsAreDirty() {
+        ((ShipCell) board.getCell(1, 1)).setIncomingShot(ShotState.MISS);
+        board.getCell(2, 2).setOccupiable(false);
+        assertEquals(2, board.getDirtyCount());
+
+        board.refreshDirtyCells();
+        assertEquals(0, board.getDirtyCount());
+    }
+
+    @Test
+    void testHugeBoardDropsGapAndKeepsCellsClickable() {
+        CanvasBoard<ShotState> huge = new CanvasBoard<>(1000, 1000, null);
+        huge.resize(600, 600);
+        huge.layout();
+
+        // 0.6px per cell: too small for a gap, but every cell still maps to a point
+        assertEquals(0, huge.indexAt(0, 0));
+        assertEquals(999, huge.indexAt(599.9, 0));
+        assertEquals(1000 * 500 + 500, huge.indexAt(300.1, 300.1));
+        assertEquals(-1, huge.indexAt(600, 0));
+    }
+}
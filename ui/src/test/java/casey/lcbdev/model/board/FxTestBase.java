@@ -0,0 +1,16 @@
+package casey.lcbdev.model.board;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+
+class FxTestBase {
+
+    @BeforeAll
+    static void initToolkit() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException alreadyStarted) {
+            // Toolkit is shared by every test class in the JVM
+        }
+    }
+}
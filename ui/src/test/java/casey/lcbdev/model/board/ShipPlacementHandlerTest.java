@@ -0,0 +1,61 @@
+package casey.lcbdev.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import casey.lcbdev.model.ships.Ship;
+import javafx.scene.input.MouseButton;
+
+public class ShipPlacementHandlerTest {
+    private Board<Ship> board;
+
+    @BeforeEach
+    void setup() {
+        board = new Board<>(5,5,(x,y) -> new ShipCell(x,y));
+    }
+
+    @Test
+    void testShipSupplier() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Supplier<Ship> supplier = () -> { latch.countDown(); return new Ship("Test",1,null); };
+
+        new ShipPlacementHandler(board, supplier, 1, ship -> {});
+
+        Ship s = supplier.get();
+        assertEquals("Test", s.getName());
+        latch.await();
+    }
+
+    @Test
+    void testLegalStartsFollowPlacements() {
+        Supplier<Ship> supplier = () -> new Ship("Test", 3, null);
+        ShipPlacementHandler handler = new ShipPlacementHandler(board, supplier, 3, ship -> {});
+        assertTrue(handler.isLegalStart(2, 0));
+        assertFalse(handler.isLegalStart(3, 0));
+
+        handler.onClick(board.getCell(1, 1), MouseButton.PRIMARY, 1);
+        assertTrue(board.getCell(3, 1).isOccupied());
+        assertFalse(handler.isLegalStart(0, 1));
+        assertTrue(handler.isLegalStart(0, 0));
+
+        // Updated in place, the bitmap matches one built from scratch
+        ShipPlacementHandler fresh = new ShipPlacementHandler(board, supplier, 3, ship -> {});
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 5; x++) {
+                assertEquals(fresh.isLegalStart(x, y), handler.isLegalStart(x, y));
+            }
+        }
+
+        handler.toggleOrientation();
+        assertFalse(handler.isLegalStart(2, 0));
+        assertTrue(handler.isLegalStart(0, 2));
+        assertFalse(handler.isLegalStart(0, 3));
+    }
+}
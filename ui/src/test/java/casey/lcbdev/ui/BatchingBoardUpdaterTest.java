@@ -0,0 +1,69 @@
+package casey.lcbdev.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import casey.lcbdev.model.board.Board;
+import casey.lcbdev.model.board.ShipCell;
+import casey.lcbdev.model.board.ShotState;
+import casey.lcbdev.model.ships.Ship;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class BatchingBoardUpdaterTest {
+
+    @BeforeAll
+    static void initToolkit() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException alreadyStarted) {
+            // Toolkit is shared by every test class in the JVM
+        }
+    }
+
+    private static void onFx(Runnable action) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBurstIsMergedIntoOneDrain() throws InterruptedException {
+        Board<Ship> player = new Board<>(5, 5, (x, y) -> new ShipCell(x, y));
+        Board<ShotState> opponent = new Board<>(5, 5, null);
+        List<String> statuses = new ArrayList<>();
+        List<Boolean> results = new ArrayList<>();
+        BatchingBoardUpdater updater = new BatchingBoardUpdater(player, opponent, statuses::add, results::add);
+
+        boolean[] pendingBefore = {false};
+        onFx(() -> {
+            updater.updateOpponentShotCell(1, 1, ShotState.MISS);
+            updater.updateOpponentShotCell(1, 1, ShotState.HIT);
+            updater.updateLocalShipCell(2, 3);
+            updater.showStatus("first");
+            updater.showStatus("second");
+            updater.onGameOver(true);
+            pendingBefore[0] = updater.hasPending();
+            updater.drain();
+        });
+
+        assertTrue(pendingBefore[0]);
+        assertFalse(updater.hasPending());
+        assertEquals(ShotState.HIT, opponent.getCell(1, 1).getOccupant());
+        assertEquals(ShotState.MISS, ((ShipCell) player.getCell(2, 3)).getIncomingShot());
+        assertEquals(List.of("second"), statuses);
+        assertEquals(List.of(true), results);
+    }
+}